@@ -0,0 +1,294 @@
+package com.fraz.dartlog.db;
+
+import android.content.Context;
+import android.os.Build;
+import android.os.Bundle;
+import android.support.test.InstrumentationRegistry;
+import android.support.test.filters.LargeTest;
+import android.support.test.runner.AndroidJUnit4;
+import android.util.Log;
+
+import com.fraz.dartlog.game.x01.X01;
+
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Scanner;
+
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * Times the database operations used by the app on histories of growing size, filled by
+ * {@link SyntheticHistory}. Skipped unless run with the instrumentation argument
+ * {@code benchmark=true}, e.g.
+ *
+ * <pre>
+ * ./gradlew connectedAndroidTest \
+ *     -Pandroid.testInstrumentationRunnerArguments.benchmark=true \
+ *     -Pandroid.testInstrumentationRunnerArguments.class=com.fraz.dartlog.db.DartLogDatabaseBenchmark
+ * </pre>
+ *
+ * Results are written as JSON to {@code benchmark/database.json} in the external files
+ * directory of the app. A previous result stored as the test asset
+ * {@code benchmark/database-baseline.json} is compared against, and with the argument
+ * {@code benchmarkMaxRegression} set the benchmark fails if any median time grew by more than
+ * that factor. The size of the history is configured with the arguments
+ * {@code benchmarkSizes}, {@code benchmarkPlayers}, {@code benchmarkPlayersPerMatch},
+ * {@code benchmarkLegs}, {@code benchmarkTurns} and {@code benchmarkRepetitions}.
+ */
+@LargeTest
+@RunWith(AndroidJUnit4.class)
+public class DartLogDatabaseBenchmark {
+
+    private static final String TAG = "DartLogDatabaseBenchmark";
+    private static final String DATABASE_NAME = "DartLogBenchmark.db";
+    private static final String RESULT_FILE = "benchmark/database.json";
+    private static final String BASELINE_ASSET = "benchmark/database-baseline.json";
+
+    private static final long SEED = 501;
+    /** Number of matches added in each transaction while filling the database. */
+    private static final int FILL_BATCH = 500;
+    /** Number of recent games shown by the profile screen. */
+    private static final int RECENT_GAMES = 5;
+
+    private Context context;
+    private DartLogDatabaseHelper databaseHelper;
+    private SyntheticHistory history;
+    private String player;
+
+    private int[] sizes;
+    private int players;
+    private int playersPerMatch;
+    private int legs;
+    private int turns;
+    private int repetitions;
+    private double maxRegression;
+
+    /** Number of matches in the database. Every leg is stored as a match. */
+    private int storedMatches;
+
+    @Before
+    public void setUp() throws Exception {
+        Bundle arguments = InstrumentationRegistry.getArguments();
+        assumeTrue("Run with benchmark=true",
+                Boolean.parseBoolean(arguments.getString("benchmark")));
+
+        sizes = parseSizes(arguments.getString("benchmarkSizes", "1000,10000,100000"));
+        players = Integer.parseInt(arguments.getString("benchmarkPlayers", "50"));
+        playersPerMatch = Integer.parseInt(arguments.getString("benchmarkPlayersPerMatch", "2"));
+        legs = Integer.parseInt(arguments.getString("benchmarkLegs", "3"));
+        turns = Integer.parseInt(arguments.getString("benchmarkTurns", "10"));
+        repetitions = Integer.parseInt(arguments.getString("benchmarkRepetitions", "10"));
+        maxRegression = Double.parseDouble(arguments.getString("benchmarkMaxRegression", "0"));
+
+        context = InstrumentationRegistry.getTargetContext();
+        context.deleteDatabase(DATABASE_NAME);
+        databaseHelper = new DartLogDatabaseHelper(context, DATABASE_NAME);
+        databaseHelper.open();
+        history = new SyntheticHistory(SEED, players, playersPerMatch, legs, turns);
+        player = history.getPlayerNames().get(0);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        if (databaseHelper != null) {
+            databaseHelper.close();
+            context.deleteDatabase(DATABASE_NAME);
+        }
+    }
+
+    @Test
+    public void benchmarkDatabase() throws Exception {
+        JSONArray results = new JSONArray();
+        for (int size : sizes) {
+            fill(size);
+            results.put(timeAddX01Match(size));
+            results.put(time(size, "getPlayers", new Operation() {
+                @Override
+                public void run() {
+                    databaseHelper.getPlayers();
+                }
+            }));
+            results.put(time(size, "profile", new Operation() {
+                @Override
+                public void run() {
+                    databaseHelper.getPlayerStatistics(player);
+                    databaseHelper.getPlayerMatchDataPage(player, null, RECENT_GAMES);
+                    databaseHelper.getPlayerBestMatch(player);
+                }
+            }));
+            results.put(time(size, "getPlayerMatchData", new Operation() {
+                @Override
+                public void run() {
+                    databaseHelper.getPlayerMatchData(player);
+                }
+            }));
+        }
+
+        JSONObject report = new JSONObject();
+        report.put("device", Build.MANUFACTURER + " " + Build.MODEL);
+        report.put("sdk", Build.VERSION.SDK_INT);
+        report.put("config", getConfig());
+        report.put("results", results);
+
+        List<String> regressions = compareWithBaseline(report);
+        writeReport(report);
+        assertTrue("Regressions against baseline: " + regressions, regressions.isEmpty());
+    }
+
+    /**
+     * Add generated matches until the database holds at least the given number of matches.
+     */
+    private void fill(int size) {
+        while (storedMatches < size) {
+            int matches = Math.max(1, Math.min(FILL_BATCH, size - storedMatches) / legs);
+            List<X01> games = history.nextMatches(matches);
+            databaseHelper.addMatches(games);
+            storedMatches += games.size();
+        }
+    }
+
+    private JSONObject timeAddX01Match(int size) throws JSONException {
+        long[] times = new long[repetitions];
+        for (int i = 0; i < repetitions; i++) {
+            X01 game = history.nextMatch().get(0);
+            long start = System.nanoTime();
+            databaseHelper.addX01Match(game);
+            times[i] = System.nanoTime() - start;
+            storedMatches++;
+        }
+        return toResult(size, "addX01Match", times);
+    }
+
+    /**
+     * Time repeated runs of an operation. The first run is reported separately since the
+     * caches of the database helper are cold after matches have been added.
+     */
+    private JSONObject time(int size, String name, Operation operation) throws JSONException {
+        long[] times = new long[repetitions];
+        for (int i = 0; i < repetitions; i++) {
+            long start = System.nanoTime();
+            operation.run();
+            times[i] = System.nanoTime() - start;
+        }
+        return toResult(size, name, times);
+    }
+
+    private JSONObject toResult(int size, String name, long[] times) throws JSONException {
+        JSONObject result = new JSONObject();
+        result.put("name", name);
+        result.put("matches", size);
+        result.put("firstMs", toMillis(times[0]));
+        long[] sorted = times.clone();
+        Arrays.sort(sorted);
+        result.put("minMs", toMillis(sorted[0]));
+        result.put("medianMs", toMillis(sorted[sorted.length / 2]));
+        result.put("maxMs", toMillis(sorted[sorted.length - 1]));
+        Log.i(TAG, result.toString());
+        return result;
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / 1e6;
+    }
+
+    private JSONObject getConfig() throws JSONException {
+        JSONObject config = new JSONObject();
+        config.put("seed", SEED);
+        config.put("players", players);
+        config.put("playersPerMatch", playersPerMatch);
+        config.put("legs", legs);
+        config.put("turns", turns);
+        config.put("repetitions", repetitions);
+        return config;
+    }
+
+    /**
+     * Add the median time of the baseline and its ratio to every result that has a matching
+     * baseline result.
+     *
+     * @return Description of every result slower than allowed by the maximum regression.
+     */
+    private List<String> compareWithBaseline(JSONObject report) throws JSONException, IOException {
+        List<String> regressions = new ArrayList<>();
+        JSONObject baseline = readBaseline();
+        if (baseline == null)
+            return regressions;
+        if (!baseline.getJSONObject("config").toString().equals(getConfig().toString())) {
+            Log.w(TAG, "Baseline was run with another configuration, not compared.");
+            return regressions;
+        }
+
+        JSONArray baselineResults = baseline.getJSONArray("results");
+        JSONArray results = report.getJSONArray("results");
+        for (int i = 0; i < results.length(); i++) {
+            JSONObject result = results.getJSONObject(i);
+            for (int j = 0; j < baselineResults.length(); j++) {
+                JSONObject baselineResult = baselineResults.getJSONObject(j);
+                if (!result.getString("name").equals(baselineResult.getString("name")) ||
+                        result.getInt("matches") != baselineResult.getInt("matches"))
+                    continue;
+
+                double baselineMedian = baselineResult.getDouble("medianMs");
+                double ratio = result.getDouble("medianMs") / baselineMedian;
+                result.put("baselineMedianMs", baselineMedian);
+                result.put("ratio", ratio);
+                if (maxRegression > 0 && ratio > maxRegression)
+                    regressions.add(result.getString("name") + "@" + result.getInt("matches") +
+                            " x" + ratio);
+            }
+        }
+        return regressions;
+    }
+
+    private JSONObject readBaseline() throws JSONException, IOException {
+        InputStream input;
+        try {
+            input = InstrumentationRegistry.getContext().getAssets().open(BASELINE_ASSET);
+        } catch (FileNotFoundException e) {
+            return null;
+        }
+        try (Scanner scanner = new Scanner(input, "UTF-8").useDelimiter("\\A")) {
+            return new JSONObject(scanner.next());
+        }
+    }
+
+    private void writeReport(JSONObject report) throws JSONException, IOException {
+        File file = new File(context.getExternalFilesDir(null), RESULT_FILE);
+        if (!file.getParentFile().isDirectory() && !file.getParentFile().mkdirs())
+            throw new IOException("Failed to create " + file.getParent());
+        try (OutputStream output = new FileOutputStream(file)) {
+            output.write(report.toString(2).getBytes("UTF-8"));
+        }
+        Log.i(TAG, "Results written to " + file);
+    }
+
+    private static int[] parseSizes(String sizes) {
+        String[] parts = sizes.split(",");
+        int[] parsed = new int[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            parsed[i] = Integer.parseInt(parts[i].trim());
+        }
+        Arrays.sort(parsed);
+        return parsed;
+    }
+
+    private interface Operation {
+        void run();
+    }
+}
@@ -0,0 +1,225 @@
+package com.fraz.dartlog.db;
+
+import android.content.Context;
+import android.database.Cursor;
+import android.database.sqlite.SQLiteDatabase;
+import android.support.test.InstrumentationRegistry;
+import android.support.test.runner.AndroidJUnit4;
+
+import com.fraz.dartlog.game.MatchRecord;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(AndroidJUnit4.class)
+public class DartLogDatabaseMigrationTest {
+
+    private static final String TEST_DATABASE_NAME = "DartLogMigrationTest.db";
+    private static final String FRESH_DATABASE_NAME = "DartLogMigrationTestFresh.db";
+
+    private Context context;
+
+    @Before
+    public void setUp() throws Exception {
+        context = InstrumentationRegistry.getTargetContext();
+        context.deleteDatabase(TEST_DATABASE_NAME);
+        context.deleteDatabase(FRESH_DATABASE_NAME);
+        createPopulatedVersion1Database();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        context.deleteDatabase(TEST_DATABASE_NAME);
+        context.deleteDatabase(FRESH_DATABASE_NAME);
+    }
+
+    @Test
+    public void testUpgradeKeepsMatchData() {
+        DartLogDatabaseHelper helper = new DartLogDatabaseHelper(context, TEST_DATABASE_NAME);
+        ArrayList<MatchRecord> matches = helper.getPlayerMatchData("Filip");
+
+        assertEquals(2, matches.size());
+
+        MatchRecord x01 = matches.get(0);
+        assertEquals("x01", x01.getGameType());
+        assertEquals("Filip", x01.getWinner().getPlayerName());
+        assertEquals(0, x01.getPlayer("Filip").getScore());
+        assertEquals(241, x01.getPlayer("Razmus").getScore());
+
+        MatchRecord random = matches.get(1);
+        assertEquals("random", random.getGameType());
+        assertEquals("Razmus", random.getWinner().getPlayerName());
+        assertEquals(4, random.getPlayer("Filip").getScore());
+        assertEquals(7, random.getPlayer("Razmus").getScore());
+    }
+
+    @Test
+    public void testUpgradeBuildsPlayerStatistics() {
+        DartLogDatabaseHelper helper = new DartLogDatabaseHelper(context, TEST_DATABASE_NAME);
+
+        PlayerStatistics filip = helper.getPlayerStatistics("Filip");
+        assertEquals(2, filip.getMatches());
+        assertEquals(1, filip.getWins());
+        assertEquals(2, filip.getTurns());
+        assertEquals(301, filip.getTotalPoints());
+        assertEquals(180, filip.getMaxTurn());
+        assertEquals(2, filip.getCount100());
+        assertEquals(1, filip.getCount140());
+        assertEquals(1, filip.getCount180());
+        assertEquals(1, filip.getCheckouts());
+
+        PlayerStatistics razmus = helper.getPlayerStatistics("Razmus");
+        assertEquals(2, razmus.getMatches());
+        assertEquals(1, razmus.getWins());
+        assertEquals(1, razmus.getTurns());
+        assertEquals(60, razmus.getTotalPoints());
+        assertEquals(0, razmus.getCheckouts());
+    }
+
+    @Test
+    public void testUpgradeSkipsWinsWithoutScores() {
+        SQLiteDatabase v1 = context.openOrCreateDatabase(TEST_DATABASE_NAME,
+                Context.MODE_PRIVATE, null);
+        try {
+            // 301 won by Razmus, who has no scores in it.
+            v1.execSQL("INSERT INTO match (_ID, date, winner_id, game_type) " +
+                    "VALUES (3, 1500000200000, 2, 'x01')");
+            v1.execSQL("INSERT INTO x01 (x, double_out, match_id) VALUES (3, -1, 3)");
+            insertScores(v1, 3, new long[]{1}, new int[]{60});
+        } finally {
+            v1.close();
+        }
+
+        DartLogDatabaseHelper helper = new DartLogDatabaseHelper(context, TEST_DATABASE_NAME);
+        PlayerStatistics razmus = helper.getPlayerStatistics("Razmus");
+        assertEquals(2, razmus.getMatches());
+        assertEquals(1, razmus.getWins());
+        assertEquals(0, razmus.getCheckouts());
+    }
+
+    @Test
+    public void testUpgradeCreatesIndexes() {
+        DartLogDatabaseHelper helper = new DartLogDatabaseHelper(context, TEST_DATABASE_NAME);
+        SQLiteDatabase db = helper.getReadableDatabase();
+
+        assertEquals(DartLogDatabaseHelper.DATABASE_VERSION, db.getVersion());
+        HashSet<String> indexes = getSchemaObjectNames(db, "index");
+        assertTrue(indexes.contains(DartLogContract.ScoreEntry.INDEX_PLAYER_MATCH));
+        assertTrue(indexes.contains(DartLogContract.ScoreEntry.INDEX_MATCH_SCORES));
+        assertTrue(indexes.contains(DartLogContract.Match.INDEX_DATE));
+        assertTrue(indexes.contains(DartLogContract.X01Entry.INDEX_MATCH));
+        assertTrue(indexes.contains(DartLogContract.RandomEntry.INDEX_MATCH));
+        db.close();
+    }
+
+    @Test
+    public void testUpgradeMarksDoubleOutAttempts() {
+        SQLiteDatabase v1 = context.openOrCreateDatabase(TEST_DATABASE_NAME,
+                Context.MODE_PRIVATE, null);
+        try {
+            // 301 won by Razmus, who starts two turns within double out range.
+            v1.execSQL("INSERT INTO match (_ID, date, winner_id, game_type) " +
+                    "VALUES (3, 1500000200000, 2, 'x01')");
+            v1.execSQL("INSERT INTO x01 (x, double_out, match_id) VALUES (3, 3, 3)");
+            insertScores(v1, 3, new long[]{2, 2, 2}, new int[]{251, 40, 10});
+        } finally {
+            v1.close();
+        }
+
+        DartLogDatabaseHelper helper = new DartLogDatabaseHelper(context, TEST_DATABASE_NAME);
+        SQLiteDatabase db = helper.getReadableDatabase();
+        try (Cursor c = db.rawQuery(
+                "SELECT match_id, double_out_attempt FROM match_score ORDER BY _ID", null)) {
+            int attempts = 0;
+            StringBuilder match3 = new StringBuilder();
+            while (c.moveToNext()) {
+                attempts += c.getInt(1);
+                if (c.getLong(0) == 3)
+                    match3.append(c.getInt(1));
+            }
+            assertEquals(2, attempts);
+            assertEquals("011", match3.toString());
+        }
+
+        MatchRecord match = helper.getPlayerMatchData("Razmus").get(2);
+        assertEquals(0, match.getPlayer("Razmus").getScore());
+        db.close();
+    }
+
+    @Test
+    public void testUpgradedSchemaEqualsFreshSchema() {
+        SQLiteDatabase upgraded =
+                new DartLogDatabaseHelper(context, TEST_DATABASE_NAME).getReadableDatabase();
+        SQLiteDatabase fresh =
+                new DartLogDatabaseHelper(context, FRESH_DATABASE_NAME).getReadableDatabase();
+
+        assertEquals(getSchema(fresh), getSchema(upgraded));
+        upgraded.close();
+        fresh.close();
+    }
+
+    private void createPopulatedVersion1Database() {
+        SQLiteDatabase db = context.openOrCreateDatabase(TEST_DATABASE_NAME,
+                Context.MODE_PRIVATE, null);
+        try {
+            for (String createSql : DartLogContract.SQL_CREATE_ENTRIES) {
+                db.execSQL(createSql);
+            }
+            db.execSQL("INSERT INTO player (_ID, name) VALUES (1, 'Filip')");
+            db.execSQL("INSERT INTO player (_ID, name) VALUES (2, 'Razmus')");
+
+            // 301 won by Filip in two turns.
+            db.execSQL("INSERT INTO match (_ID, date, winner_id, game_type) " +
+                    "VALUES (1, 1500000000000, 1, 'x01')");
+            db.execSQL("INSERT INTO x01 (x, double_out, match_id) VALUES (3, -1, 1)");
+            insertScores(db, 1, new long[]{1, 2, 1}, new int[]{180, 60, 121});
+
+            // Random with two turns won by Razmus.
+            db.execSQL("INSERT INTO match (_ID, date, winner_id, game_type) " +
+                    "VALUES (2, 1500000100000, 2, 'random')");
+            db.execSQL("INSERT INTO random (turns, match_id) VALUES (2, 2)");
+            insertScores(db, 2, new long[]{1, 2, 1, 2}, new int[]{3, 5, 1, 2});
+
+            db.setVersion(1);
+        } finally {
+            db.close();
+        }
+    }
+
+    private void insertScores(SQLiteDatabase db, long matchId, long[] playerIds, int[] scores) {
+        for (int i = 0; i < scores.length; i++) {
+            db.execSQL("INSERT INTO match_score (match_id, player_id, score) VALUES (?, ?, ?)",
+                    new Object[]{matchId, playerIds[i], scores[i]});
+        }
+    }
+
+    private HashSet<String> getSchemaObjectNames(SQLiteDatabase db, String type) {
+        HashSet<String> names = new HashSet<>();
+        try (Cursor c = db.rawQuery("SELECT name FROM sqlite_master WHERE type = ?",
+                new String[]{type})) {
+            while (c.moveToNext()) {
+                names.add(c.getString(0));
+            }
+        }
+        return names;
+    }
+
+    private HashSet<String> getSchema(SQLiteDatabase db) {
+        HashSet<String> schema = new HashSet<>();
+        try (Cursor c = db.rawQuery("SELECT sql FROM sqlite_master " +
+                "WHERE sql IS NOT NULL AND name NOT LIKE 'android_%'", null)) {
+            while (c.moveToNext()) {
+                schema.add(c.getString(0));
+            }
+        }
+        return schema;
+    }
+}
@@ -0,0 +1,155 @@
+package com.fraz.dartlog.db;
+
+import com.fraz.dartlog.game.x01.X01;
+import com.fraz.dartlog.game.x01.X01PlayerData;
+import com.fraz.dartlog.game.x01.X01ScoreManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+/**
+ * Deterministic generator of played 501 matches, for filling a database with a history of any
+ * size. The same seed and configuration always give the same players, scores and winners.
+ *
+ * Every leg of a match is its own game, the way legs are stored when they are played. The
+ * winner of a leg checks out on its last turn and the other players never get below 2.
+ */
+class SyntheticHistory {
+
+    private static final int X = 5;
+    private static final int MAX_TURN_SCORE = 180;
+    private static final int MAX_CHECKOUT = 170;
+    /** The score a winner aims to leave for the last turn of a leg. */
+    private static final int LAST_CHECKOUT = 40;
+    /** How far a winning turn may stray from an even split of the remaining score. */
+    private static final int WINNER_SPREAD = 30;
+
+    private final Random random;
+    private final ArrayList<String> playerNames;
+    private final int playersPerMatch;
+    private final int legsPerMatch;
+    private final int turnsPerLeg;
+
+    /**
+     * @param seed            Seed of the generated history.
+     * @param players         Number of distinct players to pick the players of a match from.
+     * @param playersPerMatch Number of players of every match.
+     * @param legsPerMatch    Number of legs of every match.
+     * @param turnsPerLeg     Number of turns the winner of a leg needs. Raised to the fewest
+     *                        turns 501 can be checked out in if lower.
+     */
+    SyntheticHistory(long seed, int players, int playersPerMatch, int legsPerMatch,
+                     int turnsPerLeg) {
+        if (playersPerMatch < 1 || playersPerMatch > players)
+            throw new IllegalArgumentException("Players per match must be in 1.." + players);
+        this.random = new Random(seed);
+        this.playersPerMatch = playersPerMatch;
+        this.legsPerMatch = legsPerMatch;
+        int minTurns = 1 + (X * 100 + 1 - MAX_CHECKOUT + MAX_TURN_SCORE - 1) / MAX_TURN_SCORE;
+        this.turnsPerLeg = Math.max(minTurns, turnsPerLeg);
+
+        playerNames = new ArrayList<>(players);
+        for (int i = 0; i < players; i++) {
+            playerNames.add(String.format(Locale.ROOT, "Player %04d", i));
+        }
+    }
+
+    /**
+     * @return The names of all players that may take part in a generated match.
+     */
+    List<String> getPlayerNames() {
+        return playerNames;
+    }
+
+    /**
+     * Generate the next match of the history.
+     *
+     * @return The finished legs of the match, in the order they were played.
+     */
+    List<X01> nextMatch() {
+        ArrayList<String> names = pickPlayers();
+        ArrayList<X01> legs = new ArrayList<>(legsPerMatch);
+        for (int leg = 0; leg < legsPerMatch; leg++) {
+            legs.add(playLeg(names, leg));
+        }
+        return legs;
+    }
+
+    /**
+     * Generate the legs of several matches.
+     *
+     * @param matches The number of matches to generate.
+     * @return The finished legs of all matches, in the order they were played.
+     */
+    List<X01> nextMatches(int matches) {
+        ArrayList<X01> legs = new ArrayList<>(matches * legsPerMatch);
+        for (int i = 0; i < matches; i++) {
+            legs.addAll(nextMatch());
+        }
+        return legs;
+    }
+
+    private ArrayList<String> pickPlayers() {
+        ArrayList<String> names = new ArrayList<>(playersPerMatch);
+        while (names.size() < playersPerMatch) {
+            String name = playerNames.get(random.nextInt(playerNames.size()));
+            if (!names.contains(name))
+                names.add(name);
+        }
+        return names;
+    }
+
+    private X01 playLeg(ArrayList<String> names, int leg) {
+        ArrayList<X01PlayerData> players = new ArrayList<>(names.size());
+        for (String name : names) {
+            players.add(new X01PlayerData(name, new X01ScoreManager(X)));
+        }
+        X01 game = new X01(players);
+        // Let the starting player move on between legs the way a played match does.
+        for (int i = 0; i < leg % names.size(); i++) {
+            game.newLeg();
+        }
+
+        int winner = random.nextInt(names.size());
+        while (!game.isGameOver()) {
+            int current = game.getCurrentPlayerIdx();
+            X01PlayerData player = (X01PlayerData) game.getPlayer(current);
+            if (current == winner)
+                game.submitScore(winningScore(player));
+            else
+                game.submitScore(losingScore(player));
+        }
+        return game;
+    }
+
+    /**
+     * A score that leaves the player on track to check out on exactly the last turn of the leg.
+     */
+    private int winningScore(X01PlayerData player) {
+        int remaining = player.getScore();
+        int turnsLeft = turnsPerLeg - player.getScoreHistory().size();
+        if (turnsLeft == 1)
+            return remaining;
+
+        // Leave a checkout for the last turn and spread the rest over the turns before it.
+        int toSpread = remaining - 2;
+        int min = Math.max(0, toSpread - MAX_CHECKOUT + 2 - (turnsLeft - 2) * MAX_TURN_SCORE);
+        int max = Math.min(MAX_TURN_SCORE, toSpread);
+        int even = Math.max(0, remaining - LAST_CHECKOUT) / (turnsLeft - 1);
+        int low = Math.max(min, even - WINNER_SPREAD);
+        int high = Math.min(max, even + WINNER_SPREAD);
+        if (low > high)
+            return high < min ? min : max;
+        return low + random.nextInt(high - low + 1);
+    }
+
+    /**
+     * A score that never leaves the player below 2, so that only the winner checks out.
+     */
+    private int losingScore(X01PlayerData player) {
+        int max = Math.min(MAX_TURN_SCORE, player.getScore() - 2);
+        return max <= 0 ? 0 : random.nextInt(max + 1);
+    }
+}
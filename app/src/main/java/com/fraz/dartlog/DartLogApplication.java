@@ -0,0 +1,35 @@
+package com.fraz.dartlog;
+
+import android.app.Application;
+
+import com.fraz.dartlog.db.AsyncDatabase;
+import com.fraz.dartlog.db.DartLogDatabaseHelper;
+
+/**
+ * Owns the process wide resources of the app. The shared database connection is opened and
+ * the checkout charts are read when the process starts, and both stay for the lifetime of the
+ * process. The database is opened on the writer thread, as creating or upgrading it may take
+ * a while.
+ */
+public class DartLogApplication extends Application {
+
+    @Override
+    public void onCreate() {
+        super.onCreate();
+        CheckoutChart.load(getResources().openRawResource(R.raw.double_checkout_chart),
+                getResources().openRawResource(R.raw.single_checkout_chart));
+        new AsyncDatabase(this).write(new AsyncDatabase.Operation<Void>() {
+            @Override
+            public Void run(DartLogDatabaseHelper databaseHelper) {
+                databaseHelper.open();
+                return null;
+            }
+        }, null);
+    }
+
+    @Override
+    public void onTerminate() {
+        DartLogDatabaseHelper.closeInstance();
+        super.onTerminate();
+    }
+}
@@ -9,9 +9,15 @@ import android.view.MenuItem;
 import android.view.View;
 import android.widget.Button;
 
+import com.fraz.dartlog.game.GameJournal;
+import com.fraz.dartlog.game.random.RandomGameActivity;
 import com.fraz.dartlog.game.setup.SetupActivity;
+import com.fraz.dartlog.game.x01.X01GameActivity;
 import com.fraz.dartlog.statistics.ProfileListActivity;
 
+import java.io.File;
+import java.io.IOException;
+
 public class MainActivity extends AppCompatActivity implements View.OnClickListener {
 
     @Override
@@ -31,6 +37,29 @@ public class MainActivity extends AppCompatActivity implements View.OnClickListe
 
         PreferenceManager.setDefaultValues(this, R.xml.x01_preferences, false);
         randomButton.setOnClickListener(this);
+
+        if (savedInstanceState == null)
+            resumeInterruptedGame();
+    }
+
+    /**
+     * Resume the game left in the journal when the game was last interrupted, if any.
+     */
+    private void resumeInterruptedGame() {
+        String gameType;
+        try {
+            gameType = GameJournal.readGameType(new File(getFilesDir(), GameJournal.FILE_NAME));
+        } catch (IOException e) {
+            // An unreadable journal is replaced when the next game is started.
+            return;
+        }
+        if (gameType == null)
+            return;
+
+        Intent intent = new Intent(this, gameType.equals("x01") ?
+                X01GameActivity.class : RandomGameActivity.class);
+        intent.putExtra("resume", true);
+        startActivity(intent);
     }
 
     @Override
@@ -0,0 +1,152 @@
+package com.fraz.dartlog.db;
+
+import android.content.Context;
+import android.os.Handler;
+import android.os.Looper;
+
+import java.util.HashSet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Runs database operations off the main thread and delivers their results back on the main
+ * thread. Writes are executed one at a time, in order, on a dedicated writer thread while
+ * reads run on a small pool of reader threads.
+ *
+ * An instance is meant to be owned by a single Activity or Fragment, which must call
+ * {@link #cancelAll()} when it is destroyed. Cancelled reads are skipped if they have not
+ * started, while cancelled writes are always completed. In both cases the callback is not
+ * called, and a failure of the operation is not rethrown, after cancellation.
+ */
+public class AsyncDatabase {
+
+    private static final int READER_THREADS = 2;
+
+    private static final ExecutorService writer = Executors.newSingleThreadExecutor();
+    private static final ExecutorService readers = Executors.newFixedThreadPool(READER_THREADS);
+    private static final Handler mainHandler = new Handler(Looper.getMainLooper());
+
+    /**
+     * A database operation, run on a background thread.
+     */
+    public interface Operation<T> {
+        T run(DartLogDatabaseHelper databaseHelper);
+    }
+
+    /**
+     * Receives the result of an operation on the main thread.
+     */
+    public interface Callback<T> {
+        void onResult(T result);
+    }
+
+    private final DartLogDatabaseHelper databaseHelper;
+
+    /** Tasks that have not delivered their result. Only accessed from the main thread. */
+    private final HashSet<Task<?>> pendingTasks = new HashSet<>();
+
+    public AsyncDatabase(Context context) {
+        databaseHelper = DartLogDatabaseHelper.getInstance(context);
+    }
+
+    /**
+     * Run a read-only operation on one of the reader threads.
+     *
+     * @param operation The operation to run.
+     * @param callback  Receives the result on the main thread, may be null.
+     */
+    public <T> void read(Operation<T> operation, Callback<T> callback) {
+        submit(readers, operation, callback, true);
+    }
+
+    /**
+     * Run an operation that modifies the database on the writer thread. Writes are run in the
+     * order they are submitted.
+     *
+     * @param operation The operation to run.
+     * @param callback  Receives the result on the main thread, may be null.
+     */
+    public <T> void write(Operation<T> operation, Callback<T> callback) {
+        submit(writer, operation, callback, false);
+    }
+
+    /**
+     * Cancel delivery of the results of all pending operations. Must be called from the main
+     * thread.
+     */
+    public void cancelAll() {
+        for (Task<?> task : pendingTasks) {
+            task.cancel();
+        }
+        pendingTasks.clear();
+    }
+
+    private <T> void submit(ExecutorService executor, Operation<T> operation,
+                            Callback<T> callback, boolean cancellable) {
+        Task<T> task = new Task<>(operation, callback, cancellable);
+        pendingTasks.add(task);
+        task.future = executor.submit(task);
+    }
+
+    private class Task<T> implements Runnable {
+        private final Operation<T> operation;
+        private final Callback<T> callback;
+        private final boolean cancellable;
+        private volatile boolean cancelled = false;
+        private Future<?> future;
+
+        Task(Operation<T> operation, Callback<T> callback, boolean cancellable) {
+            this.operation = operation;
+            this.callback = callback;
+            this.cancellable = cancellable;
+        }
+
+        @Override
+        public void run() {
+            if (cancelled && cancellable)
+                return;
+
+            T result = null;
+            RuntimeException failure = null;
+            try {
+                result = operation.run(databaseHelper);
+            } catch (RuntimeException e) {
+                failure = e;
+            }
+
+            final T finalResult = result;
+            final RuntimeException finalFailure = failure;
+            mainHandler.post(new Runnable() {
+                @Override
+                public void run() {
+                    deliver(finalResult, finalFailure);
+                }
+            });
+        }
+
+        /**
+         * Deliver the result of the operation, or rethrow its failure on the main thread so
+         * that it is not silently swallowed by the executor. Nothing is delivered once the
+         * task has been cancelled.
+         */
+        private void deliver(T result, RuntimeException failure) {
+            try {
+                if (cancelled)
+                    return;
+                if (failure != null)
+                    throw failure;
+                if (callback != null)
+                    callback.onResult(result);
+            } finally {
+                pendingTasks.remove(this);
+            }
+        }
+
+        void cancel() {
+            cancelled = true;
+            if (cancellable && future != null)
+                future.cancel(false);
+        }
+    }
+}
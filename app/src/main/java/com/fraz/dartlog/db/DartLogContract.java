@@ -4,7 +4,10 @@ import android.provider.BaseColumns;
 
 final class DartLogContract {
 
-
+    /**
+     * The schema of the first database version. Later versions are reached by applying
+     * {@link #SQL_MIGRATIONS} on top of it, so this must never be changed.
+     */
     static final String[] SQL_CREATE_ENTRIES = new String[]{
         "CREATE TABLE " + PlayerEntry.TABLE_NAME + " (" +
                 PlayerEntry._ID + " INTEGER PRIMARY KEY," +
@@ -39,12 +42,70 @@ final class DartLogContract {
                 "FOREIGN KEY(" + ScoreEntry.COLUMN_NAME_PLAYER_ID + ") REFERENCES " +
                     PlayerEntry.TABLE_NAME + "(" + PlayerEntry._ID + "))"};
 
+    /**
+     * Statements that upgrade the schema one version at a time. The statements at index i
+     * upgrade the database from version i + 1 to version i + 2.
+     */
+    static final String[][] SQL_MIGRATIONS = new String[][]{
+        // Version 1 -> 2: Indexes for the player -> match and match -> score lookups.
+        {
+            "CREATE INDEX " + ScoreEntry.INDEX_PLAYER_MATCH + " ON " +
+                    ScoreEntry.TABLE_NAME + " (" +
+                    ScoreEntry.COLUMN_NAME_PLAYER_ID + ", " +
+                    ScoreEntry.COLUMN_NAME_MATCH_ID + ")",
+            "CREATE INDEX " + ScoreEntry.INDEX_MATCH_SCORES + " ON " +
+                    ScoreEntry.TABLE_NAME + " (" +
+                    ScoreEntry.COLUMN_NAME_MATCH_ID + ", " +
+                    ScoreEntry._ID + ", " +
+                    ScoreEntry.COLUMN_NAME_PLAYER_ID + ", " +
+                    ScoreEntry.COLUMN_NAME_SCORE + ")",
+            "CREATE INDEX " + Match.INDEX_DATE + " ON " +
+                    Match.TABLE_NAME + " (" + Match.COLUMN_NAME_DATE + ")",
+            "CREATE INDEX " + X01Entry.INDEX_MATCH + " ON " +
+                    X01Entry.TABLE_NAME + " (" + X01Entry.COLUMN_NAME_MATCH_ID + ")",
+            "CREATE INDEX " + RandomEntry.INDEX_MATCH + " ON " +
+                    RandomEntry.TABLE_NAME + " (" + RandomEntry.COLUMN_NAME_MATCH_ID + ")"
+        },
+        // Version 2 -> 3: Per player statistics, populated from the existing matches.
+        {
+            "CREATE TABLE " + PlayerStatsEntry.TABLE_NAME + " (" +
+                    PlayerStatsEntry.COLUMN_NAME_PLAYER_ID + " INTEGER PRIMARY KEY," +
+                    PlayerStatsEntry.COLUMN_NAME_MATCHES + " INTEGER NOT NULL DEFAULT 0," +
+                    PlayerStatsEntry.COLUMN_NAME_WINS + " INTEGER NOT NULL DEFAULT 0," +
+                    PlayerStatsEntry.COLUMN_NAME_TURNS + " INTEGER NOT NULL DEFAULT 0," +
+                    PlayerStatsEntry.COLUMN_NAME_TOTAL_POINTS + " INTEGER NOT NULL DEFAULT 0," +
+                    PlayerStatsEntry.COLUMN_NAME_MAX_TURN + " INTEGER NOT NULL DEFAULT 0," +
+                    PlayerStatsEntry.COLUMN_NAME_COUNT_100 + " INTEGER NOT NULL DEFAULT 0," +
+                    PlayerStatsEntry.COLUMN_NAME_COUNT_140 + " INTEGER NOT NULL DEFAULT 0," +
+                    PlayerStatsEntry.COLUMN_NAME_COUNT_180 + " INTEGER NOT NULL DEFAULT 0," +
+                    PlayerStatsEntry.COLUMN_NAME_CHECKOUTS + " INTEGER NOT NULL DEFAULT 0," +
+                    "FOREIGN KEY(" + PlayerStatsEntry.COLUMN_NAME_PLAYER_ID + ") REFERENCES " +
+                        PlayerEntry.TABLE_NAME + "(" + PlayerEntry._ID + "))",
+            PlayerStatsEntry.SQL_REBUILD
+        },
+        // Version 3 -> 4: Whether each x01 turn was a double out attempt, worked out from the
+        // scores of the existing matches. The scores index is extended to cover it.
+        {
+            "ALTER TABLE " + ScoreEntry.TABLE_NAME + " ADD COLUMN " +
+                    ScoreEntry.COLUMN_NAME_DOUBLE_OUT_ATTEMPT + " INTEGER NOT NULL DEFAULT 0",
+            ScoreEntry.SQL_BACKFILL_DOUBLE_OUT_ATTEMPTS,
+            "DROP INDEX " + ScoreEntry.INDEX_MATCH_SCORES,
+            "CREATE INDEX " + ScoreEntry.INDEX_MATCH_SCORES + " ON " +
+                    ScoreEntry.TABLE_NAME + " (" +
+                    ScoreEntry.COLUMN_NAME_MATCH_ID + ", " +
+                    ScoreEntry._ID + ", " +
+                    ScoreEntry.COLUMN_NAME_PLAYER_ID + ", " +
+                    ScoreEntry.COLUMN_NAME_SCORE + ", " +
+                    ScoreEntry.COLUMN_NAME_DOUBLE_OUT_ATTEMPT + ")"
+        }};
+
     static final String[] SQL_DELETE_ENTRIES = new String[]{
         "DROP TABLE IF EXISTS " + DartLogContract.PlayerEntry.TABLE_NAME,
         "DROP TABLE IF EXISTS " + Match.TABLE_NAME,
         "DROP TABLE IF EXISTS " + X01Entry.TABLE_NAME,
         "DROP TABLE IF EXISTS " + RandomEntry.TABLE_NAME,
-        "DROP TABLE IF EXISTS " + DartLogContract.ScoreEntry.TABLE_NAME};
+        "DROP TABLE IF EXISTS " + DartLogContract.ScoreEntry.TABLE_NAME,
+        "DROP TABLE IF EXISTS " + PlayerStatsEntry.TABLE_NAME};
 
 
     public DartLogContract() {}
@@ -60,6 +121,7 @@ final class DartLogContract {
         static final String COLUMN_NAME_DATE = "date";
         static final String COLUMN_NAME_WINNER_PLAYER_ID = "winner_id";
         static final String COLUMN_NAME_GAME_TYPE = "game_type";
+        static final String INDEX_DATE = "match_date_idx";
     }
 
     static abstract class X01Entry implements BaseColumns {
@@ -67,12 +129,14 @@ final class DartLogContract {
         static final String COLUMN_NAME_X = "x";
         static final String COLUMN_NAME_DOUBLE_OUT = "double_out";
         static final String COLUMN_NAME_MATCH_ID = "match_id";
+        static final String INDEX_MATCH = "x01_match_idx";
     }
 
     static abstract class RandomEntry implements BaseColumns {
         static final String TABLE_NAME = "random";
         static final String COLUMN_NAME_TURNS = "turns";
         static final String COLUMN_NAME_MATCH_ID = "match_id";
+        static final String INDEX_MATCH = "random_match_idx";
     }
 
     static abstract class ScoreEntry implements BaseColumns {
@@ -80,5 +144,79 @@ final class DartLogContract {
         static final String COLUMN_NAME_PLAYER_ID = "player_id";
         static final String COLUMN_NAME_MATCH_ID = "match_id";
         static final String COLUMN_NAME_SCORE = "score";
+        /** 1 if the turn was an x01 double out attempt, that is started at 50 or less. */
+        static final String COLUMN_NAME_DOUBLE_OUT_ATTEMPT = "double_out_attempt";
+        /** Covers the lookup of all matches a player has participated in. */
+        static final String INDEX_PLAYER_MATCH = "match_score_player_match_idx";
+        /** Covers reading the scores of a match in the order they were thrown. */
+        static final String INDEX_MATCH_SCORES = "match_score_match_idx";
+
+        /**
+         * Mark the x01 turns that were started at 50 or less as double out attempts. The score
+         * a turn started at is the starting score less the earlier scores of the player.
+         */
+        static final String SQL_BACKFILL_DOUBLE_OUT_ATTEMPTS =
+                "UPDATE match_score SET double_out_attempt = 1" +
+                "     WHERE (SELECT x.x * 100 + 1 FROM x01 x" +
+                "                WHERE x.match_id = match_score.match_id)" +
+                "           - (SELECT ifnull(sum(p.score), 0) FROM match_score p" +
+                "                  WHERE p.match_id = match_score.match_id" +
+                "                        AND p.player_id = match_score.player_id" +
+                "                        AND p._ID < match_score._ID) <= 50";
+    }
+
+    /**
+     * Statistics of every player, kept up to date as matches are added. Matches and wins count
+     * all game types while the turn statistics only count x01 turns, since the scores of other
+     * game types are not points. A checkout is a won x01 match.
+     */
+    static abstract class PlayerStatsEntry {
+        static final String TABLE_NAME = "player_stats";
+        static final String COLUMN_NAME_PLAYER_ID = "player_id";
+        static final String COLUMN_NAME_MATCHES = "matches";
+        static final String COLUMN_NAME_WINS = "wins";
+        static final String COLUMN_NAME_TURNS = "turns";
+        static final String COLUMN_NAME_TOTAL_POINTS = "total_points";
+        static final String COLUMN_NAME_MAX_TURN = "max_turn";
+        static final String COLUMN_NAME_COUNT_100 = "count_100";
+        static final String COLUMN_NAME_COUNT_140 = "count_140";
+        static final String COLUMN_NAME_COUNT_180 = "count_180";
+        static final String COLUMN_NAME_CHECKOUTS = "checkouts";
+
+        /** Whether the winner of the match w has any scores in it. */
+        private static final String SQL_WINNER_HAS_SCORES =
+                "EXISTS (SELECT 1 FROM match_score ws" +
+                "            WHERE ws.match_id = w._ID AND ws.player_id = w.winner_id)";
+
+        /**
+         * Recompute the statistics of all players from the match and match_score tables. Only
+         * the matches a player has scores in count, also for the wins, as when the statistics
+         * are updated for every added match.
+         */
+        static final String SQL_REBUILD =
+                "INSERT OR REPLACE INTO player_stats (player_id, matches, wins, turns," +
+                "       total_points, max_turn, count_100, count_140, count_180, checkouts)" +
+                "     SELECT p._ID," +
+                "            (SELECT count(DISTINCT match_id) FROM match_score" +
+                "                 WHERE player_id = p._ID)," +
+                "            (SELECT count(*) FROM match w" +
+                "                 WHERE w.winner_id = p._ID AND " + SQL_WINNER_HAS_SCORES + ")," +
+                "            count(s.score)," +
+                "            ifnull(sum(s.score), 0)," +
+                "            ifnull(max(s.score), 0)," +
+                "            ifnull(sum(s.score >= 100), 0)," +
+                "            ifnull(sum(s.score >= 140), 0)," +
+                "            ifnull(sum(s.score = 180), 0)," +
+                "            (SELECT count(*) FROM match w" +
+                "                 WHERE w.winner_id = p._ID AND w.game_type = 'x01'" +
+                "                   AND " + SQL_WINNER_HAS_SCORES + ")" +
+                "         FROM player p" +
+                "              left join (SELECT sc.player_id, sc.score" +
+                "                             FROM match_score sc" +
+                "                                  join match m" +
+                "                                       on m._ID = sc.match_id" +
+                "                             WHERE m.game_type = 'x01') s" +
+                "                   on s.player_id = p._ID" +
+                "         GROUP BY p._ID";
     }
 }
@@ -5,38 +5,83 @@ import android.content.Context;
 import android.database.Cursor;
 import android.database.sqlite.SQLiteDatabase;
 import android.database.sqlite.SQLiteOpenHelper;
-import android.support.annotation.NonNull;
-import android.util.SparseArray;
-import android.util.SparseLongArray;
+import android.database.sqlite.SQLiteStatement;
+import android.util.LongSparseArray;
 
-import com.fraz.dartlog.game.AdditionScoreManager;
 import com.fraz.dartlog.game.Game;
-import com.fraz.dartlog.game.GameData;
+import com.fraz.dartlog.game.MatchRecord;
 import com.fraz.dartlog.game.PlayerData;
+import com.fraz.dartlog.game.PlayerResult;
+import com.fraz.dartlog.game.ScoreBuffer;
+import com.fraz.dartlog.game.ScoreHistory;
 import com.fraz.dartlog.game.random.Random;
 import com.fraz.dartlog.game.x01.X01;
 import com.fraz.dartlog.game.x01.X01PlayerData;
-import com.fraz.dartlog.game.x01.X01ScoreManager;
 
 import java.util.ArrayList;
-import java.util.Calendar;
-import java.util.HashMap;
-import java.util.Iterator;
+import java.util.Collections;
 import java.util.LinkedHashMap;
-import java.util.LinkedList;
-import java.util.Locale;
+import java.util.List;
 import java.util.Map;
 
 public class DartLogDatabaseHelper extends SQLiteOpenHelper {
 
     // If you change the database schema, you must increment the database version.
-    private static final int DATABASE_VERSION = 1;
+    // Every version after the first must have a matching entry in DartLogContract.SQL_MIGRATIONS.
+    static final int DATABASE_VERSION = 4;
     private static final String DATABASE_NAME = "DartLog.db";
-    private Context context;
 
-    public DartLogDatabaseHelper(Context context) {
-        super(context, DATABASE_NAME, null, DATABASE_VERSION);
-        this.context = context;
+    private static DartLogDatabaseHelper instance;
+
+    private final PlayerCache playerCache = new PlayerCache();
+    private final MatchCache matchCache = new MatchCache();
+
+    /**
+     * Get the database helper shared by the whole process. The underlying connection is kept
+     * open until {@link #closeInstance()} is called, so callers must not close the databases
+     * returned by the helper.
+     *
+     * @param context Any context, only its application context is retained.
+     * @return The shared database helper.
+     */
+    public static synchronized DartLogDatabaseHelper getInstance(Context context) {
+        if (instance == null)
+            instance = new DartLogDatabaseHelper(context.getApplicationContext(), DATABASE_NAME);
+        return instance;
+    }
+
+    /**
+     * Close the connection of the shared database helper. A new connection is opened by the
+     * next call to {@link #getInstance(Context)}.
+     */
+    public static synchronized void closeInstance() {
+        if (instance != null) {
+            instance.close();
+            instance = null;
+        }
+    }
+
+    DartLogDatabaseHelper(Context context, String databaseName) {
+        super(context, databaseName, null, DATABASE_VERSION);
+    }
+
+    /**
+     * Open the connection up front so that the first query does not pay for opening, creating
+     * or upgrading the database. Also warms the player cache.
+     */
+    public void open() {
+        getWritableDatabase();
+        getPlayers();
+    }
+
+    /**
+     * Use write-ahead logging so that readers on other threads are not blocked while a match is
+     * being written.
+     */
+    @Override
+    public void onConfigure(SQLiteDatabase db) {
+        super.onConfigure(db);
+        db.enableWriteAheadLogging();
     }
 
     @Override
@@ -44,26 +89,32 @@ public class DartLogDatabaseHelper extends SQLiteOpenHelper {
         for (String createSql : DartLogContract.SQL_CREATE_ENTRIES) {
             db.execSQL(createSql);
         }
+        onUpgrade(db, 1, DATABASE_VERSION);
 
         initializePlayers(db);
     }
 
+    /**
+     * Upgrade the database by applying the migrations of every version after the old version,
+     * in order. Runs inside the transaction opened by {@link SQLiteOpenHelper}.
+     */
     @Override
     public void onUpgrade(SQLiteDatabase db, int oldVersion, int newVersion) {
-        //resetDatabase();
+        for (int version = oldVersion; version < newVersion; version++) {
+            for (String migrationSql : DartLogContract.SQL_MIGRATIONS[version - 1]) {
+                db.execSQL(migrationSql);
+            }
+        }
     }
 
     private void resetDatabase() {
-        try (SQLiteDatabase db = getWritableDatabase()) {
-            for (String deleteSql : DartLogContract.SQL_DELETE_ENTRIES) {
-                db.execSQL(deleteSql);
-            }
-            for (String createSql : DartLogContract.SQL_CREATE_ENTRIES) {
-                db.execSQL(createSql);
-            }
-
-            initializePlayers(db);
+        SQLiteDatabase db = getWritableDatabase();
+        playerCache.clear();
+        matchCache.evictAll();
+        for (String deleteSql : DartLogContract.SQL_DELETE_ENTRIES) {
+            db.execSQL(deleteSql);
         }
+        onCreate(db);
     }
 
     /**
@@ -73,9 +124,7 @@ public class DartLogDatabaseHelper extends SQLiteOpenHelper {
      * @return the row ID of the newly inserted player, or -1 if the player could not be added.
      */
     public long addPlayer(String name) {
-        try (SQLiteDatabase db = getWritableDatabase()) {
-            return addPlayer(name, db);
-        }
+        return addPlayer(name, getWritableDatabase());
     }
 
     /**
@@ -88,7 +137,10 @@ public class DartLogDatabaseHelper extends SQLiteOpenHelper {
     private long addPlayer(String name, SQLiteDatabase db) {
         ContentValues values = new ContentValues();
         values.put(DartLogContract.PlayerEntry.COLUMN_NAME_PLAYER_NAME, name);
-        return db.insert(DartLogContract.PlayerEntry.TABLE_NAME, null, values);
+        long playerId = db.insert(DartLogContract.PlayerEntry.TABLE_NAME, null, values);
+        if (playerId != -1)
+            playerCache.put(playerId, name);
+        return playerId;
     }
 
     /**
@@ -97,19 +149,21 @@ public class DartLogDatabaseHelper extends SQLiteOpenHelper {
      * @return the player names of all the players in the database.
      */
     public ArrayList<String> getPlayers() {
-        ArrayList<String> names;
-        try (SQLiteDatabase db = getReadableDatabase()) {
-            String[] projection = {
-                    DartLogContract.PlayerEntry.COLUMN_NAME_PLAYER_NAME
-            };
-
-            names = new ArrayList<>();
-            try (Cursor c = db.query(DartLogContract.PlayerEntry.TABLE_NAME, projection,
-                    null, null, null, null, null)) {
-                while (c.moveToNext()) {
-                    names.add(c.getString(c.getColumnIndex(
-                            DartLogContract.PlayerEntry.COLUMN_NAME_PLAYER_NAME)));
-                }
+        SQLiteDatabase db = getReadableDatabase();
+        String[] projection = {
+                DartLogContract.PlayerEntry._ID,
+                DartLogContract.PlayerEntry.COLUMN_NAME_PLAYER_NAME
+        };
+
+        ArrayList<String> names = new ArrayList<>();
+        try (Cursor c = db.query(DartLogContract.PlayerEntry.TABLE_NAME, projection,
+                null, null, null, null, null)) {
+            int idIdx = c.getColumnIndex(DartLogContract.PlayerEntry._ID);
+            int nameIdx = c.getColumnIndex(DartLogContract.PlayerEntry.COLUMN_NAME_PLAYER_NAME);
+            while (c.moveToNext()) {
+                String name = c.getString(nameIdx);
+                playerCache.put(c.getLong(idIdx), name);
+                names.add(name);
             }
         }
         return names;
@@ -118,219 +172,536 @@ public class DartLogDatabaseHelper extends SQLiteOpenHelper {
     /**
      * Get all match data for the player with the given name.
      *
+     * The match headers and the scores of all the matches are read with one query each, both
+     * ordered by match id, and the match records are assembled in a single pass over the two
+     * cursors.
+     *
      * @param playerName The name of the player.
-     * @return List of match data for the given player.
+     * @return List of match data for the given player, ordered by match id.
      */
-    public ArrayList<GameData> getPlayerMatchData(String playerName) {
-        ArrayList<GameData> gameData;
-        try (SQLiteDatabase db = getReadableDatabase()) {
-
-            long playerId = getPlayerId(db, playerName);
-            ArrayList<Long> matchIds = getMatchIds(db, playerId);
-            HashMap<Long, String> gameTypes = new HashMap<>();
-            for(long matchId : matchIds)
-                gameTypes.put(matchId, getGameType(db, matchId));
-
-            gameData = new ArrayList<>();
-            for (long MatchId : matchIds) {
-                String gameType = gameTypes.get(MatchId);
-                
-                switch (gameType){
-                    case "x01":
-                        gameData.add(getX01GameData(db, MatchId));
-                        break;
-                    case "random":
-                        gameData.add(getRandomGameData(db, MatchId));
-                        break;
-                        
-                }
+    public ArrayList<MatchRecord> getPlayerMatchData(String playerName) {
+        SQLiteDatabase db = getReadableDatabase();
+        long playerId = getPlayerId(db, playerName);
+        return readMatches(db, SQL_PLAYER_MATCH_IDS, "m._ID",
+                new String[]{String.valueOf(playerId)});
+    }
+
+    /**
+     * Get a page of match data for the player with the given name, newest match first.
+     *
+     * Pages are located by the date and id of the last match of the previous page rather than
+     * by an offset, so the cost of fetching a page does not depend on how far into the history
+     * it is.
+     *
+     * @param playerName The name of the player.
+     * @param after      The last match of the previous page, or null to get the first page.
+     * @param pageSize   The maximum number of matches in the page.
+     * @return List of match data for the given player ordered by date, newest first. The list
+     * is shorter than the page size only if it is the last page.
+     */
+    public ArrayList<MatchRecord> getPlayerMatchDataPage(String playerName, MatchRecord after,
+                                                      int pageSize) {
+        SQLiteDatabase db = getReadableDatabase();
+        long playerId = getPlayerId(db, playerName);
+        long afterDate = after == null ? Long.MAX_VALUE : after.getDate();
+        long afterMatchId = after == null ? Long.MAX_VALUE : after.getMatchId();
+        return readMatches(db, SQL_PLAYER_MATCH_PAGE_IDS, "m.date DESC, m._ID DESC",
+                new String[]{String.valueOf(playerId),
+                        String.valueOf(afterDate),
+                        String.valueOf(afterDate),
+                        String.valueOf(afterMatchId),
+                        String.valueOf(pageSize)});
+    }
+
+    /**
+     * Get the ids of all matches of the player with the given name, without reading the
+     * matches.
+     *
+     * @param playerName The name of the player.
+     * @return The match ids in the order of {@link #getPlayerMatchDataPage}, newest first.
+     */
+    public long[] getPlayerMatchIds(String playerName) {
+        SQLiteDatabase db = getReadableDatabase();
+        long playerId = getPlayerId(db, playerName);
+        try (Cursor c = db.rawQuery(
+                "SELECT m._ID" +
+                "     FROM match m" +
+                "     WHERE m._ID IN (" + SQL_PLAYER_MATCH_IDS + ")" +
+                "     ORDER BY m.date DESC, m._ID DESC;",
+                new String[]{String.valueOf(playerId)})) {
+            long[] matchIds = new long[c.getCount()];
+            for (int i = 0; c.moveToNext(); i++) {
+                matchIds[i] = c.getLong(0);
             }
+            return matchIds;
         }
-        return gameData;
     }
 
-    private GameData getRandomGameData(SQLiteDatabase db, long matchId) {
-        HashMap<String, LinkedList<Integer>> matchScores = getMatchScores(db, matchId);
+    /**
+     * Get the data of a single match, from the match cache if it has been read before.
+     *
+     * @param matchId The id of the match.
+     * @return The match data, or null if there is no match with the given id.
+     */
+    public MatchRecord getMatchData(long matchId) {
+        MatchRecord cached = matchCache.get(matchId);
+        if (cached != null)
+            return cached;
+
+        ArrayList<MatchRecord> matches = readMatches(getReadableDatabase(), "?", "m._ID",
+                new String[]{String.valueOf(matchId)});
+        return matches.isEmpty() ? null : matches.get(0);
+    }
 
-        try (Cursor c = getRandomMatchEntry(db, matchId)) {
-            if (c.moveToFirst()) {
-                String winnerName = c.getString(c.getColumnIndex("winner"));
-                Calendar date = getDate(c);
-
-                LinkedHashMap<String, PlayerData> playerData = new LinkedHashMap<>();
-                for (Map.Entry<String, LinkedList<Integer>> playerEntry : matchScores.entrySet())
-                {
-                    AdditionScoreManager scoreManager = new AdditionScoreManager();
-                    scoreManager.applyScores(playerEntry.getValue());
-                    playerData.put(playerEntry.getKey(),
-                            new PlayerData(playerEntry.getKey(), scoreManager));
+    /**
+     * Ids of all matches a player has participated in.
+     */
+    private static final String SQL_PLAYER_MATCH_IDS =
+            "SELECT match_id FROM match_score WHERE player_id = ?";
+
+    /**
+     * Ids of a page of matches a player has participated in, newest first, starting after the
+     * match with the given date and id.
+     */
+    private static final String SQL_PLAYER_MATCH_PAGE_IDS =
+            "SELECT m._ID" +
+            "     FROM match m" +
+            "     WHERE m._ID IN (SELECT match_id FROM match_score WHERE player_id = ?)" +
+            "          AND (m.date < ? OR (m.date = ? AND m._ID < ?))" +
+            "     ORDER BY m.date DESC, m._ID DESC" +
+            "     LIMIT ?";
+
+    /**
+     * Read the match data of the matches with ids given by a sub query. The match headers and
+     * the scores are read with one query each, both in the given match order, and the game
+     * data is assembled in a single pass over the two cursors. Matches found in the match
+     * cache are not read again, only the scores of the remaining matches are queried.
+     *
+     * @param db            The database.
+     * @param matchIdsSql   Query selecting the ids of the matches to read.
+     * @param orderBy       Order of the matches, in terms of the match table aliased as m.
+     * @param selectionArgs Arguments of the match id query.
+     * @return List of match data in the given order.
+     */
+    private ArrayList<MatchRecord> readMatches(SQLiteDatabase db, String matchIdsSql,
+                                            String orderBy, String[] selectionArgs) {
+        String matchesSql =
+                "SELECT m._ID as match_id, m.date, m.game_type, m.winner_id," +
+                "       x.x, x.double_out, r.turns" +
+                "     FROM match m" +
+                "          left join x01 x" +
+                "               on x.match_id = m._ID" +
+                "          left join random r" +
+                "               on r.match_id = m._ID" +
+                "     WHERE m._ID IN (" + matchIdsSql + ")" +
+                "     ORDER BY " + orderBy + ";";
+
+        ArrayList<MatchRecord> records = new ArrayList<>();
+        try (Cursor matches = db.rawQuery(matchesSql, selectionArgs)) {
+            int matchIdIdx = matches.getColumnIndex(
+                    DartLogContract.ScoreEntry.COLUMN_NAME_MATCH_ID);
+
+            // Hold on to the cached matches, they may be evicted before they are used.
+            LongSparseArray<MatchRecord> cachedMatches = new LongSparseArray<>();
+            StringBuilder uncachedMatchIds = new StringBuilder();
+            while (matches.moveToNext()) {
+                long matchId = matches.getLong(matchIdIdx);
+                MatchRecord cached = matchCache.get(matchId);
+                if (cached != null) {
+                    cachedMatches.put(matchId, cached);
+                } else {
+                    if (uncachedMatchIds.length() > 0)
+                        uncachedMatchIds.append(',');
+                    uncachedMatchIds.append(matchId);
                 }
+            }
 
-                return new GameData(new ArrayList<>(playerData.values()),
-                        date, playerData.get(winnerName), "random");
-            } else throw new IllegalArgumentException("Match not found");
+            try (Cursor scores = queryScores(db, matchIdsSql, orderBy, selectionArgs,
+                    cachedMatches.size() == 0 ? null : uncachedMatchIds.toString())) {
+                MatchCursorReader reader = new MatchCursorReader(db, matches, scores);
+                matches.moveToPosition(-1);
+                while (matches.moveToNext()) {
+                    long matchId = matches.getLong(matchIdIdx);
+                    MatchRecord match = cachedMatches.get(matchId);
+                    if (match == null) {
+                        match = reader.readMatchRecord();
+                        if (match != null)
+                            matchCache.put(matchId, match);
+                    }
+                    if (match != null)
+                        records.add(match);
+                }
+            }
         }
+        return records;
     }
 
-    private GameData getX01GameData(SQLiteDatabase db, long matchId) {
-        HashMap<String, LinkedList<Integer>> matchScores = getMatchScores(db, matchId);
+    /**
+     * Query the scores of the matches read by {@link #readMatches}, in the same match order.
+     *
+     * @param matchIds Comma separated ids of the matches to get the scores of, or null to get
+     *                 the scores of all matches selected by the match id query.
+     */
+    private Cursor queryScores(SQLiteDatabase db, String matchIdsSql, String orderBy,
+                               String[] selectionArgs, String matchIds) {
+        String scoresSql =
+                "SELECT s.match_id, s.player_id, s.score, s.double_out_attempt" +
+                "     FROM match_score s" +
+                "          join match m" +
+                "               on m._ID = s.match_id" +
+                "     WHERE s.match_id IN (" + (matchIds == null ? matchIdsSql : matchIds) + ")" +
+                "     ORDER BY " + orderBy + ", s._ID;";
+        return db.rawQuery(scoresSql, matchIds == null ? selectionArgs : null);
+    }
 
-        try (Cursor c = getX01MatchEntry(db, matchId)) {
-            if (c.moveToFirst()) {
-                String winnerName = c.getString(c.getColumnIndex("winner"));
-                Calendar date = getDate(c);
-                int x = c.getInt(c.getColumnIndex(DartLogContract.X01Entry.COLUMN_NAME_X));
-                int double_out =
-                        c.getInt(c.getColumnIndex(DartLogContract.X01Entry.COLUMN_NAME_DOUBLE_OUT));
-
-                LinkedHashMap<String, PlayerData> playerData = new LinkedHashMap<>();
-                for (Map.Entry<String, LinkedList<Integer>> playerEntry : matchScores.entrySet())
-                {
-                    X01ScoreManager scoreManager = new X01ScoreManager(x);
-                    scoreManager.setDoubleOutAttempts(double_out);
-                    scoreManager.applyScores(playerEntry.getValue());
-                    playerData.put(playerEntry.getKey(),
-                                   new X01PlayerData(context, playerEntry.getKey(), scoreManager));
-                }
+    /**
+     * Assembles match records from a match cursor and a score cursor that are both in the same
+     * match order. The score cursor is advanced in step with the match cursor so that every row
+     * is visited exactly once. Player ids are resolved to names through the player cache.
+     */
+    private class MatchCursorReader {
+        private final SQLiteDatabase db;
+        private final Cursor matches;
+        private final Cursor scores;
+
+        private final int matchIdIdx;
+        private final int dateIdx;
+        private final int gameTypeIdx;
+        private final int winnerIdx;
+        private final int xIdx;
+        private final int doubleOutIdx;
+
+        private final int scoreMatchIdIdx;
+        private final int scorePlayerIdIdx;
+        private final int scoreIdx;
+        private final int doubleOutAttemptIdx;
+
+        private boolean hasScore;
+
+        MatchCursorReader(SQLiteDatabase db, Cursor matches, Cursor scores) {
+            this.db = db;
+            this.matches = matches;
+            this.scores = scores;
+
+            matchIdIdx = matches.getColumnIndex(DartLogContract.ScoreEntry.COLUMN_NAME_MATCH_ID);
+            dateIdx = matches.getColumnIndex(DartLogContract.Match.COLUMN_NAME_DATE);
+            gameTypeIdx = matches.getColumnIndex(DartLogContract.Match.COLUMN_NAME_GAME_TYPE);
+            winnerIdx = matches.getColumnIndex(
+                    DartLogContract.Match.COLUMN_NAME_WINNER_PLAYER_ID);
+            xIdx = matches.getColumnIndex(DartLogContract.X01Entry.COLUMN_NAME_X);
+            doubleOutIdx = matches.getColumnIndex(DartLogContract.X01Entry.COLUMN_NAME_DOUBLE_OUT);
+
+            scoreMatchIdIdx = scores.getColumnIndex(
+                    DartLogContract.ScoreEntry.COLUMN_NAME_MATCH_ID);
+            scorePlayerIdIdx = scores.getColumnIndex(
+                    DartLogContract.ScoreEntry.COLUMN_NAME_PLAYER_ID);
+            scoreIdx = scores.getColumnIndex(DartLogContract.ScoreEntry.COLUMN_NAME_SCORE);
+            doubleOutAttemptIdx = scores.getColumnIndex(
+                    DartLogContract.ScoreEntry.COLUMN_NAME_DOUBLE_OUT_ATTEMPT);
+
+            hasScore = scores.moveToFirst();
+        }
 
+        /**
+         * Read the record of the match the match cursor is currently positioned at.
+         *
+         * @return The match record, or null if the game type is unknown.
+         */
+        MatchRecord readMatchRecord() {
+            long matchId = matches.getLong(matchIdIdx);
+            LinkedHashMap<String, PlayerScores> matchScores = readMatchScores(matchId);
+            String winnerName = getPlayerName(db, matches.getLong(winnerIdx));
+            long date = matches.getLong(dateIdx);
+
+            String gameType = matches.getString(gameTypeIdx);
+            boolean x01 = gameType.equals("x01");
+            if (!x01 && !gameType.equals("random"))
+                return null;
+            int x = x01 ? matches.getInt(xIdx) : 0;
+            int doubleOut = x01 ? matches.getInt(doubleOutIdx) : 0;
+
+            ArrayList<PlayerResult> players = new ArrayList<>(matchScores.size());
+            int winner = -1;
+            for (Map.Entry<String, PlayerScores> playerEntry : matchScores.entrySet()) {
+                String playerName = playerEntry.getKey();
+                PlayerScores playerScores = playerEntry.getValue();
+                if (playerName.equals(winnerName))
+                    winner = players.size();
+                if (x01)
+                    players.add(PlayerResult.x01(playerName, x, playerScores.scores,
+                            playerScores.doubleOutAttempts));
+                else
+                    players.add(PlayerResult.random(playerName, playerScores.scores));
+            }
+            return new MatchRecord(matchId, gameType, date, players, winner, x, doubleOut);
+        }
+
+        private LinkedHashMap<String, PlayerScores> readMatchScores(long matchId) {
+            LinkedHashMap<String, PlayerScores> playerScores = new LinkedHashMap<>();
 
-                return new GameData(new ArrayList<>(playerData.values()),
-                        date, playerData.get(winnerName), "x01");
-            } else throw new IllegalArgumentException("Match not found");
+            while (hasScore && scores.getLong(scoreMatchIdIdx) == matchId) {
+                String playerName = getPlayerName(db, scores.getLong(scorePlayerIdIdx));
+                PlayerScores playerScore = playerScores.get(playerName);
+                if (playerScore == null) {
+                    playerScore = new PlayerScores();
+                    playerScores.put(playerName, playerScore);
+                }
+                playerScore.scores.add(scores.getInt(scoreIdx));
+                playerScore.doubleOutAttempts.add(scores.getInt(doubleOutAttemptIdx));
+                hasScore = scores.moveToNext();
+            }
+            return playerScores;
         }
     }
 
-    @NonNull
-    private Calendar getDate(Cursor c) {
-        long dateInMillis = c.getLong(c.getColumnIndex(DartLogContract.Match.COLUMN_NAME_DATE));
-        Calendar date = Calendar.getInstance();
-        date.setTimeInMillis(dateInMillis);
-        return date;
+    /**
+     * The stored turns of one player of a match.
+     */
+    private static class PlayerScores {
+        final ScoreBuffer scores = new ScoreBuffer();
+        final ScoreBuffer doubleOutAttempts = new ScoreBuffer();
     }
 
     /**
      * Add a match to the database. Date at time of the add is recorded as date of match.
      * All players scores are added.
      *
+     * A leg that is already stored, as told by its type and date, is not added again. A leg
+     * resumed from the game journal may be saved a second time, and is then stored only once.
+     *
      * @param game The match to add.
      */
     public void addX01Match(X01 game) {
-        try (SQLiteDatabase db = getWritableDatabase()) {
-            long matchId = insertMatchEntry(db, game, "x01");
-            insertX01Entry(db, game, matchId);
-            insertScores(db, game, matchId);
-        }
+        addMatches(Collections.singletonList(game), true);
     }
 
     /**
      * Add a match to the database. Date at time of the add is recorded as date of match.
      * All players scores are added.
      *
+     * A leg that is already stored, as told by its type and date, is not added again. A leg
+     * resumed from the game journal may be saved a second time, and is then stored only once.
+     *
      * @param game The match to add.
      */
     public void addRandomMatch(Random game) {
-        try (SQLiteDatabase db = getWritableDatabase()) {
-            long matchId = insertMatchEntry(db, game, "random");
-            insertRandomEntry(db, game, matchId);
-            insertScores(db, game, matchId);
+        addMatches(Collections.singletonList(game), true);
+    }
+
+    /**
+     * Add several matches to the database in a single transaction. Either all of the matches
+     * are added or, if any insert fails, none of them.
+     *
+     * @param games The matches to add. Only {@link X01} and {@link Random} games are supported.
+     */
+    public void addMatches(List<? extends Game> games) {
+        addMatches(games, false);
+    }
+
+    private void addMatches(List<? extends Game> games, boolean skipStored) {
+        SQLiteDatabase db = getWritableDatabase();
+        boolean successful = false;
+        db.beginTransactionNonExclusive();
+        try (SQLiteStatement insertScore = db.compileStatement(SQL_INSERT_SCORE);
+             SQLiteStatement insertStats = db.compileStatement(SQL_INSERT_PLAYER_STATS);
+             SQLiteStatement updateStats = db.compileStatement(SQL_UPDATE_PLAYER_STATS)) {
+            for (Game game : games) {
+                if (skipStored && isStored(db, game))
+                    continue;
+                insertMatch(db, insertScore, game);
+                updatePlayerStatistics(db, insertStats, updateStats, game);
+            }
+            db.setTransactionSuccessful();
+            successful = true;
+        } finally {
+            db.endTransaction();
+            // Players added by the rolled back transaction must not stay in the cache.
+            if (!successful)
+                playerCache.clear();
+            // Cached matches are kept, as adding matches does not change the stored ones.
         }
     }
 
-    private void insertScores(SQLiteDatabase db, Game game, long matchId) {
-        SparseLongArray playerIds = new SparseLongArray();
-        SparseArray<Iterator<Integer>> playerScoreIterators = new SparseArray<>();
+    private static final String SQL_INSERT_SCORE =
+            "INSERT INTO " + DartLogContract.ScoreEntry.TABLE_NAME + " (" +
+                    DartLogContract.ScoreEntry.COLUMN_NAME_MATCH_ID + ", " +
+                    DartLogContract.ScoreEntry.COLUMN_NAME_PLAYER_ID + ", " +
+                    DartLogContract.ScoreEntry.COLUMN_NAME_SCORE + ", " +
+                    DartLogContract.ScoreEntry.COLUMN_NAME_DOUBLE_OUT_ATTEMPT + ")" +
+                    " VALUES (?, ?, ?, ?);";
+
+    private static final String SQL_INSERT_PLAYER_STATS =
+            "INSERT OR IGNORE INTO player_stats (player_id) VALUES (?);";
+
+    private static final String SQL_UPDATE_PLAYER_STATS =
+            "UPDATE player_stats" +
+            "     SET matches = matches + 1," +
+            "         wins = wins + ?," +
+            "         turns = turns + ?," +
+            "         total_points = total_points + ?," +
+            "         max_turn = max(max_turn, ?)," +
+            "         count_100 = count_100 + ?," +
+            "         count_140 = count_140 + ?," +
+            "         count_180 = count_180 + ?," +
+            "         checkouts = checkouts + ?" +
+            "     WHERE player_id = ?;";
 
-        for (int i = 0; i < game.getNumberOfPlayers(); i++) {
+    /**
+     * @return True if a match of the same type and with the same date as the game is stored.
+     */
+    private boolean isStored(SQLiteDatabase db, Game game) {
+        try (Cursor c = db.rawQuery(
+                "SELECT 1 FROM " + DartLogContract.Match.TABLE_NAME +
+                "     WHERE " + DartLogContract.Match.COLUMN_NAME_DATE + " = ?" +
+                "       AND " + DartLogContract.Match.COLUMN_NAME_GAME_TYPE + " = ?" +
+                "     LIMIT 1;",
+                new String[]{String.valueOf(game.getDate().getTimeInMillis()),
+                        game instanceof X01 ? "x01" : "random"})) {
+            return c.moveToFirst();
+        }
+    }
+
+    /**
+     * Insert a match with its settings and scores. The inserts throw if they fail, so that the
+     * transaction is rolled back rather than committing a match that cannot be read back.
+     */
+    private void insertMatch(SQLiteDatabase db, SQLiteStatement insertScore, Game game) {
+        long matchId;
+        if (game instanceof X01) {
+            matchId = insertMatchEntry(db, game, "x01");
+            insertX01Entry(db, (X01) game, matchId);
+        } else if (game instanceof Random) {
+            matchId = insertMatchEntry(db, game, "random");
+            insertRandomEntry(db, (Random) game, matchId);
+        } else {
+            throw new IllegalArgumentException("Unsupported game type");
+        }
+        insertScores(db, insertScore, game, matchId);
+    }
+
+    private void insertScores(SQLiteDatabase db, SQLiteStatement insertScore,
+                              Game game, long matchId) {
+        int numberOfPlayers = game.getNumberOfPlayers();
+        long[] playerIds = new long[numberOfPlayers];
+        ScoreHistory[] playerScores = new ScoreHistory[numberOfPlayers];
+        ScoreHistory[] playerDoubleOutAttempts = new ScoreHistory[numberOfPlayers];
+        int[] playerTurns = new int[numberOfPlayers];
+
+        for (int i = 0; i < numberOfPlayers; i++) {
             PlayerData player = game.getPlayer(i);
-            long playerId = getPlayerId(db, player);
-            playerIds.append(i, playerId);
-            playerScoreIterators.append(i, player.getScoreHistory().iterator());
+            playerIds[i] = getPlayerId(db, player);
+            playerScores[i] = player.getScoreHistory();
+            if (player instanceof X01PlayerData)
+                playerDoubleOutAttempts[i] = ((X01PlayerData) player).getDoubleOutAttemptHistory();
         }
 
+        insertScore.bindLong(1, matchId);
         for (Integer i : game.getPlayOrder()) {
-            int score = playerScoreIterators.get(i).next();
-            ContentValues values = new ContentValues();
-            values.put(DartLogContract.ScoreEntry.COLUMN_NAME_SCORE, score);
-            values.put(DartLogContract.ScoreEntry.COLUMN_NAME_MATCH_ID, matchId);
-            values.put(DartLogContract.ScoreEntry.COLUMN_NAME_PLAYER_ID, playerIds.get(i));
-            db.insert(DartLogContract.ScoreEntry.TABLE_NAME, null, values);
+            int turn = playerTurns[i]++;
+            ScoreHistory doubleOutAttempts = playerDoubleOutAttempts[i];
+            insertScore.bindLong(2, playerIds[i]);
+            insertScore.bindLong(3, playerScores[i].get(turn));
+            insertScore.bindLong(4, doubleOutAttempts == null ? 0 : doubleOutAttempts.get(turn));
+            insertScore.executeInsert();
         }
     }
 
-    private HashMap<String, LinkedList<Integer>> getMatchScores(SQLiteDatabase db, long matchId) {
-        String sql = "SELECT p.name, s.score " +
-                "          FROM match_score s " +
-                "              join player p " +
-                "                  on s.player_id = p._ID and s.match_id = ?;";
+    /**
+     * Add the result of a game to the statistics of its players. Must give the same result as
+     * {@link DartLogContract.PlayerStatsEntry#SQL_REBUILD} does for the stored match.
+     */
+    private void updatePlayerStatistics(SQLiteDatabase db, SQLiteStatement insertStats,
+                                        SQLiteStatement updateStats, Game game) {
+        boolean countTurns = game instanceof X01;
+        for (int i = 0; i < game.getNumberOfPlayers(); i++) {
+            PlayerData player = game.getPlayer(i);
+            // Players without any stored score are not part of the stored match.
+            if (player.getScoreHistory().isEmpty())
+                continue;
 
-        HashMap<String, LinkedList<Integer>> playerScores = new HashMap<>();
+            boolean winner = player == game.getWinner();
 
-        try (Cursor c = db.rawQuery(sql, new String[]{String.valueOf(matchId)})) {
-            while (c.moveToNext()) {
-                int score = c.getInt(c.getColumnIndex(
-                        DartLogContract.ScoreEntry.COLUMN_NAME_SCORE));
-                String playerName = c.getString(c.getColumnIndex(
-                        DartLogContract.PlayerEntry.COLUMN_NAME_PLAYER_NAME));
-                if (playerScores.containsKey(playerName))
-                    playerScores.get(playerName).add(score);
-                else {
-                    LinkedList<Integer> scores = new LinkedList<>();
-                    scores.add(score);
-                    playerScores.put(playerName, scores);
+            long playerId = getPlayerId(db, player);
+            insertStats.bindLong(1, playerId);
+            insertStats.executeInsert();
+
+            updateStats.bindLong(1, winner ? 1 : 0);
+            if (countTurns) {
+                updateStats.bindLong(2, player.getScoreHistory().size());
+                updateStats.bindLong(3, player.getScoreSum());
+                updateStats.bindLong(4, player.getMaxScore());
+                updateStats.bindLong(5, player.getCount100());
+                updateStats.bindLong(6, player.getCount140());
+                updateStats.bindLong(7, player.getCount180());
+            } else {
+                for (int column = 2; column <= 7; column++) {
+                    updateStats.bindLong(column, 0);
                 }
             }
+            updateStats.bindLong(8, winner && countTurns ? 1 : 0);
+            updateStats.bindLong(9, playerId);
+            updateStats.executeUpdateDelete();
         }
-        return playerScores;
     }
 
     /**
-     * Get the ids of all the matches the given player has played.
+     * Get the statistics of the player with the given name.
      *
-     * @param playerId The id of the player.
-     * @return List of match ids.
+     * @param playerName The name of the player.
+     * @return The statistics of the player. All zero if the player has not played any match.
      */
-    private ArrayList<Long> getMatchIds(SQLiteDatabase db, long playerId) {
-        ArrayList<Long> matchIds = new ArrayList<>();
-
-        try (Cursor c = db.query(true, DartLogContract.ScoreEntry.TABLE_NAME,
-                new String[]{DartLogContract.ScoreEntry.COLUMN_NAME_MATCH_ID},
-                String.format(Locale.getDefault(), "%s = '%d'",
-                        DartLogContract.ScoreEntry.COLUMN_NAME_PLAYER_ID,
-                        playerId),
-                null, null, null, null, null)) {
-            while (c.moveToNext()) {
-                matchIds.add(c.getLong(c.getColumnIndex(
-                        DartLogContract.ScoreEntry.COLUMN_NAME_MATCH_ID)));
-            }
+    public PlayerStatistics getPlayerStatistics(String playerName) {
+        SQLiteDatabase db = getReadableDatabase();
+        long playerId = getPlayerId(db, playerName);
+        try (Cursor c = db.rawQuery(
+                "SELECT matches, wins, turns, total_points, max_turn," +
+                "       count_100, count_140, count_180, checkouts" +
+                "     FROM player_stats" +
+                "     WHERE player_id = ?;", new String[]{String.valueOf(playerId)})) {
+            if (c.moveToFirst())
+                return new PlayerStatistics(c.getInt(0), c.getInt(1), c.getInt(2),
+                        c.getLong(3), c.getInt(4), c.getInt(5), c.getInt(6), c.getInt(7),
+                        c.getInt(8));
+            else
+                return new PlayerStatistics(0, 0, 0, 0, 0, 0, 0, 0, 0);
         }
-        return matchIds;
     }
 
     /**
-     * Get the game type of a match
-     *
-     * @param matchId The id of the match.
-     * @return The game type of the game (x01, random).
+     * Recompute the statistics of all players from the stored matches.
      */
-    private String getGameType(SQLiteDatabase db, long matchId) {
-        String gameType = "";
-
-        try (Cursor c = db.query(true, DartLogContract.Match.TABLE_NAME,
-                new String[]{DartLogContract.Match.COLUMN_NAME_GAME_TYPE},
-                String.format(Locale.getDefault(), "%s = '%d'",
-                        DartLogContract.Match._ID,
-                        matchId),
-                null, null, null, null, null)) {
-            if (c.moveToFirst()) {
-                gameType = c.getString(c.getColumnIndex(
-                        DartLogContract.Match.COLUMN_NAME_GAME_TYPE));
-                while (c.moveToNext()) {
-                    /* If more than one row of data is found we have encountered an error. */
-                   throw new Error();
-                }
-            }
+    public void rebuildPlayerStatistics() {
+        SQLiteDatabase db = getWritableDatabase();
+        db.beginTransactionNonExclusive();
+        try {
+            db.delete(DartLogContract.PlayerStatsEntry.TABLE_NAME, null, null);
+            db.execSQL(DartLogContract.PlayerStatsEntry.SQL_REBUILD);
+            db.setTransactionSuccessful();
+        } finally {
+            db.endTransaction();
         }
-        return gameType;
+    }
+
+    /**
+     * Get the x01 match the player with the given name won in the fewest turns.
+     *
+     * @param playerName The name of the player.
+     * @return The best match, or null if the player has not won any x01 match.
+     */
+    public MatchRecord getPlayerBestMatch(String playerName) {
+        SQLiteDatabase db = getReadableDatabase();
+        long playerId = getPlayerId(db, playerName);
+        ArrayList<MatchRecord> matches = readMatches(db,
+                "SELECT m._ID" +
+                "     FROM match m" +
+                "          join match_score s" +
+                "               on s.match_id = m._ID and s.player_id = m.winner_id" +
+                "     WHERE m.winner_id = ? AND m.game_type = 'x01'" +
+                "     GROUP BY m._ID" +
+                "     ORDER BY count(*), m._ID DESC" +
+                "     LIMIT 1",
+                "m._ID", new String[]{String.valueOf(playerId)});
+        return matches.isEmpty() ? null : matches.get(0);
     }
 
     /**
@@ -352,21 +723,51 @@ public class DartLogDatabaseHelper extends SQLiteOpenHelper {
      * @return The id of the player in the database.
      */
     private long getPlayerId(SQLiteDatabase db, String playerName) {
+        Long cachedPlayerId = playerCache.getId(playerName);
+        if (cachedPlayerId != null)
+            return cachedPlayerId;
+
         long playerId;
         try (Cursor c = db.query(DartLogContract.PlayerEntry.TABLE_NAME,
                 new String[]{DartLogContract.PlayerEntry._ID},
-                String.format("%s = '%s'", DartLogContract.PlayerEntry.COLUMN_NAME_PLAYER_NAME,
-                        playerName), null, null, null, null)) {
+                DartLogContract.PlayerEntry.COLUMN_NAME_PLAYER_NAME + " = ?",
+                new String[]{playerName}, null, null, null)) {
             if (c.getCount() == 0)
-                playerId = addPlayer(playerName);
+                playerId = addPlayer(playerName, db);
             else {
                 c.moveToFirst();
                 playerId = c.getLong(0);
+                playerCache.put(playerId, playerName);
             }
         }
         return playerId;
     }
 
+    /**
+     * Gets the name of a player in the database.
+     *
+     * @param db       The database.
+     * @param playerId The id of the player.
+     * @return The name of the player, or null if there is no player with the given id.
+     */
+    private String getPlayerName(SQLiteDatabase db, long playerId) {
+        String cachedPlayerName = playerCache.getName(playerId);
+        if (cachedPlayerName != null)
+            return cachedPlayerName;
+
+        String playerName = null;
+        try (Cursor c = db.query(DartLogContract.PlayerEntry.TABLE_NAME,
+                new String[]{DartLogContract.PlayerEntry.COLUMN_NAME_PLAYER_NAME},
+                DartLogContract.PlayerEntry._ID + " = ?",
+                new String[]{String.valueOf(playerId)}, null, null, null)) {
+            if (c.moveToFirst()) {
+                playerName = c.getString(0);
+                playerCache.put(playerId, playerName);
+            }
+        }
+        return playerName;
+    }
+
     private long insertMatchEntry(SQLiteDatabase db, Game game, String gameType){
         ContentValues matchValues = new ContentValues();
 
@@ -376,7 +777,7 @@ public class DartLogDatabaseHelper extends SQLiteOpenHelper {
         matchValues.put(DartLogContract.Match.COLUMN_NAME_WINNER_PLAYER_ID,
                 getPlayerId(db, game.getWinner()));
 
-        return db.insert(DartLogContract.Match.TABLE_NAME, null, matchValues);
+        return db.insertOrThrow(DartLogContract.Match.TABLE_NAME, null, matchValues);
     }
 
     private long insertX01Entry(SQLiteDatabase db, X01 game, long matchId) {
@@ -385,39 +786,14 @@ public class DartLogDatabaseHelper extends SQLiteOpenHelper {
         matchValues.put(DartLogContract.X01Entry.COLUMN_NAME_MATCH_ID, matchId);
         matchValues.put(DartLogContract.X01Entry.COLUMN_NAME_DOUBLE_OUT,
                 game.getDoubleOutAttempts());
-        return db.insert(DartLogContract.X01Entry.TABLE_NAME, null, matchValues);
+        return db.insertOrThrow(DartLogContract.X01Entry.TABLE_NAME, null, matchValues);
     }
 
     private long insertRandomEntry(SQLiteDatabase db, Random game, long matchId) {
         ContentValues matchValues = new ContentValues();
         matchValues.put(DartLogContract.RandomEntry.COLUMN_NAME_MATCH_ID, matchId);
         matchValues.put(DartLogContract.RandomEntry.COLUMN_NAME_TURNS, game.getNrOfTurns());
-        return db.insert(DartLogContract.RandomEntry.TABLE_NAME, null, matchValues);
-    }
-
-    private Cursor getX01MatchEntry(SQLiteDatabase db, long matchId) {
-        String sql = "SELECT x.double_out, x.x, m.date, p.name as winner" +
-                "     FROM x01 x" +
-                "          join match m" +
-                "               on m._ID = x.match_id" +
-                "          join player p" +
-                "               on p._ID = m.winner_id" +
-                "     WHERE x.match_id = ?;";
-
-        return db.rawQuery(sql, new String[]{String.valueOf(matchId)});
-    }
-
-
-    private Cursor getRandomMatchEntry(SQLiteDatabase db, long matchId) {
-        String sql = "SELECT r.turns, m.date, p.name as winner" +
-                "     FROM random r" +
-                "          join match m" +
-                "               on m._ID = r.match_id" +
-                "          join player p" +
-                "               on p._ID = m.winner_id" +
-                "     WHERE r.match_id = ?;";
-
-        return db.rawQuery(sql, new String[]{String.valueOf(matchId)});
+        return db.insertOrThrow(DartLogContract.RandomEntry.TABLE_NAME, null, matchValues);
     }
 
     private void initializePlayers(SQLiteDatabase db) {
@@ -0,0 +1,39 @@
+package com.fraz.dartlog.db;
+
+import android.util.LruCache;
+
+import com.fraz.dartlog.game.MatchRecord;
+
+/**
+ * Least recently used cache of match records read from the database, keyed by match id, so
+ * that the same match does not have to be read again by every screen showing it.
+ *
+ * The cache is bounded by an estimate of the memory used by the cached matches rather than
+ * by the number of matches, since a match may have any number of players and turns. Match
+ * records are immutable and shared between all readers.
+ */
+final class MatchCache extends LruCache<Long, MatchRecord> {
+
+    /** Fraction of the maximum heap size the cache may use. */
+    private static final int HEAP_FRACTION = 16;
+
+    /** Rough size in bytes of a match, not counting its players. */
+    private static final int MATCH_OVERHEAD = 256;
+    /** Rough size in bytes of a player of a match, not counting its scores. */
+    private static final int PLAYER_OVERHEAD = 192;
+    /** Rough size in bytes of one turn of a player: its score, total and double out flag. */
+    private static final int SCORE_SIZE = 9;
+
+    MatchCache() {
+        super((int) Math.min(Integer.MAX_VALUE, Runtime.getRuntime().maxMemory() / HEAP_FRACTION));
+    }
+
+    @Override
+    protected int sizeOf(Long matchId, MatchRecord match) {
+        int size = MATCH_OVERHEAD;
+        for (int i = 0; i < match.getNumberOfPlayers(); i++) {
+            size += PLAYER_OVERHEAD + match.getPlayer(i).getTurns() * SCORE_SIZE;
+        }
+        return size;
+    }
+}
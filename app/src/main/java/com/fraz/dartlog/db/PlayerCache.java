@@ -0,0 +1,40 @@
+package com.fraz.dartlog.db;
+
+import android.util.LongSparseArray;
+
+import java.util.HashMap;
+
+/**
+ * In-memory mapping between player names and player row ids. The cache only ever holds
+ * mappings that have been read from or committed to the database, and must be cleared
+ * whenever rows of the player table may have been rolled back or removed.
+ */
+final class PlayerCache {
+
+    private final HashMap<String, Long> ids = new HashMap<>();
+    private final LongSparseArray<String> names = new LongSparseArray<>();
+
+    /**
+     * @return The id of the player with the given name, or null if the player is not cached.
+     */
+    synchronized Long getId(String name) {
+        return ids.get(name);
+    }
+
+    /**
+     * @return The name of the player with the given id, or null if the player is not cached.
+     */
+    synchronized String getName(long id) {
+        return names.get(id);
+    }
+
+    synchronized void put(long id, String name) {
+        ids.put(name, id);
+        names.put(id, name);
+    }
+
+    synchronized void clear() {
+        ids.clear();
+        names.clear();
+    }
+}
@@ -0,0 +1,79 @@
+package com.fraz.dartlog.db;
+
+/**
+ * Summary of all matches a player has participated in. Matches and wins count all game types
+ * while the turn statistics only count x01 turns.
+ */
+public class PlayerStatistics {
+
+    private final int matches;
+    private final int wins;
+    private final int turns;
+    private final long totalPoints;
+    private final int maxTurn;
+    private final int count100;
+    private final int count140;
+    private final int count180;
+    private final int checkouts;
+
+    PlayerStatistics(int matches, int wins, int turns, long totalPoints, int maxTurn,
+                     int count100, int count140, int count180, int checkouts) {
+        this.matches = matches;
+        this.wins = wins;
+        this.turns = turns;
+        this.totalPoints = totalPoints;
+        this.maxTurn = maxTurn;
+        this.count100 = count100;
+        this.count140 = count140;
+        this.count180 = count180;
+        this.checkouts = checkouts;
+    }
+
+    public int getMatches() {
+        return matches;
+    }
+
+    public int getWins() {
+        return wins;
+    }
+
+    public int getTurns() {
+        return turns;
+    }
+
+    public long getTotalPoints() {
+        return totalPoints;
+    }
+
+    public int getMaxTurn() {
+        return maxTurn;
+    }
+
+    /**
+     * @return Number of x01 turns scoring 100 or more.
+     */
+    public int getCount100() {
+        return count100;
+    }
+
+    /**
+     * @return Number of x01 turns scoring 140 or more.
+     */
+    public int getCount140() {
+        return count140;
+    }
+
+    public int getCount180() {
+        return count180;
+    }
+
+    public int getCheckouts() {
+        return checkouts;
+    }
+
+    public float getAvgTurn() {
+        if (turns == 0)
+            return 0;
+        return (float) totalPoints / turns;
+    }
+}
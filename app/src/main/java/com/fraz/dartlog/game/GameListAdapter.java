@@ -8,14 +8,27 @@ import android.widget.TextView;
 
 import com.fraz.dartlog.R;
 
-import java.util.LinkedList;
+import java.util.List;
 
-public abstract class GameListAdapter<T extends GameListAdapter.ViewHolder> extends RecyclerView.Adapter<T> {
+/**
+ * Shows one row per player of a game. Added as a listener to the game, the adapter only
+ * rebinds the rows changed by a game event, and only the part of the row that changed.
+ */
+public abstract class GameListAdapter<T extends GameListAdapter.ViewHolder>
+        extends RecyclerView.Adapter<T> implements GameListener {
+
+    /** Payload of a row whose scores have changed. */
+    private static final Object PAYLOAD_SCORE = new Object();
+    /** Payload of a row that has become or stopped being the current player or the winner. */
+    private static final Object PAYLOAD_STATE = new Object();
 
     protected Game game;
+    private final ScoreTexts scoreTexts;
+    private int winnerIdx = -1;
 
     public GameListAdapter(Game game) {
         this.game = game;
+        this.scoreTexts = new ScoreTexts(game);
     }
 
     @Override
@@ -26,26 +39,73 @@ public abstract class GameListAdapter<T extends GameListAdapter.ViewHolder> exte
         return game.getNumberOfPlayers();
     }
 
-    private String createScoresString(LinkedList<Integer> scores) {
-        String scoreHistoryText = "";
-        for (Integer score : scores) {
-            scoreHistoryText += String.format("%s ", Integer.toString(score));
-        }
-        return scoreHistoryText.trim();
-    }
-
     @Override
     public void onBindViewHolder(T holder, int position) {
         final PlayerData player = game.getPlayer(position);
 
         holder.playerName.setText(player.getPlayerName());
-        holder.score.setText(String.valueOf(player.getScore()));
-
+        bindScore(holder, position);
         setBackgroundColor(player, holder);
+    }
+
+    @Override
+    public void onBindViewHolder(T holder, int position, List<Object> payloads) {
+        if (payloads.isEmpty()) {
+            onBindViewHolder(holder, position);
+            return;
+        }
+
+        final PlayerData player = game.getPlayer(position);
+        if (payloads.contains(PAYLOAD_SCORE))
+            bindScore(holder, position);
+        if (payloads.contains(PAYLOAD_STATE))
+            setBackgroundColor(player, holder);
+    }
+
+    /**
+     * Bind the parts of a row that change when the player submits or undoes a score. The
+     * texts are cached between binds, so rebinding an unchanged row does not allocate.
+     */
+    protected void bindScore(T holder, int position) {
+        holder.score.setText(scoreTexts.getScore(position));
 
         // Set total score history text
-        LinkedList<Integer> scores = new LinkedList<>(player.getScoreHistory());
-        holder.totalScoreHistory.setText(createScoresString(scores));
+        holder.totalScoreHistory.setText(scoreTexts.getScoreHistory(position));
+    }
+
+    @Override
+    public void onScoreSubmitted(int playerIdx, int score) {
+        scoreTexts.onScoreSubmitted(playerIdx);
+        notifyItemChanged(playerIdx, PAYLOAD_SCORE);
+    }
+
+    @Override
+    public void onBust(PlayerData player) {
+        // Shown by the score submitted before the bust.
+    }
+
+    @Override
+    public void onTurnAdvanced(int previousPlayerIdx, int currentPlayerIdx) {
+        notifyItemChanged(previousPlayerIdx, PAYLOAD_STATE);
+        notifyItemChanged(currentPlayerIdx, PAYLOAD_STATE);
+    }
+
+    @Override
+    public void onUndo(int playerIdx, int previousPlayerIdx) {
+        scoreTexts.onUndo(playerIdx);
+        notifyItemChanged(playerIdx, PAYLOAD_SCORE);
+        notifyItemChanged(playerIdx, PAYLOAD_STATE);
+        notifyItemChanged(previousPlayerIdx, PAYLOAD_STATE);
+        if (winnerIdx != -1) {
+            notifyItemChanged(winnerIdx, PAYLOAD_STATE);
+            winnerIdx = -1;
+        }
+    }
+
+    @Override
+    public void onLegWon(PlayerData winner) {
+        winnerIdx = game.getPlayers().indexOf(winner);
+        notifyItemChanged(winnerIdx, PAYLOAD_STATE);
     }
 
     private void setBackgroundColor(PlayerData player, ViewHolder holder) {
@@ -0,0 +1,49 @@
+package com.fraz.dartlog.game;
+
+import android.os.BadParcelableException;
+import android.os.Parcel;
+import android.os.Parcelable;
+
+import java.io.IOException;
+
+/**
+ * Parcelable holder of a game, written in the compact form of {@link GameCodec}.
+ */
+public class ParcelableGame implements Parcelable {
+
+    private final Game game;
+
+    public ParcelableGame(Game game) {
+        this.game = game;
+    }
+
+    public Game getGame() {
+        return game;
+    }
+
+    @Override
+    public int describeContents() {
+        return 0;
+    }
+
+    @Override
+    public void writeToParcel(Parcel dest, int flags) {
+        dest.writeByteArray(GameCodec.encode(game));
+    }
+
+    public static final Creator<ParcelableGame> CREATOR = new Creator<ParcelableGame>() {
+        @Override
+        public ParcelableGame createFromParcel(Parcel source) {
+            try {
+                return new ParcelableGame(GameCodec.decodeGame(source.createByteArray()));
+            } catch (IOException e) {
+                throw new BadParcelableException(e);
+            }
+        }
+
+        @Override
+        public ParcelableGame[] newArray(int size) {
+            return new ParcelableGame[size];
+        }
+    };
+}
@@ -3,10 +3,12 @@ package com.fraz.dartlog.game.random;
 import android.app.DialogFragment;
 import android.content.Intent;
 import android.os.Bundle;
-import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
 import android.support.v7.app.AppCompatActivity;
 import android.support.v7.widget.RecyclerView;
 import android.support.v7.widget.Toolbar;
+import android.util.Log;
+import android.view.Gravity;
 import android.view.Menu;
 import android.view.MenuInflater;
 import android.view.MenuItem;
@@ -14,24 +16,49 @@ import android.view.View;
 import android.view.ViewGroup;
 import android.widget.Button;
 import android.widget.TextView;
+import android.widget.Toast;
 import android.widget.ViewAnimator;
 import com.fraz.dartlog.MainActivity;
 import com.fraz.dartlog.OnBackPressedDialogFragment;
 import com.fraz.dartlog.R;
+import com.fraz.dartlog.db.AsyncDatabase;
 import com.fraz.dartlog.db.DartLogDatabaseHelper;
 import com.fraz.dartlog.game.AdditionScoreManager;
+import com.fraz.dartlog.game.GameJournal;
+import com.fraz.dartlog.game.GameListener;
 import com.fraz.dartlog.game.InputEventListener;
 import com.fraz.dartlog.game.NumPadHandler;
+import com.fraz.dartlog.game.ParcelableGame;
 import com.fraz.dartlog.game.PlayerData;
+import java.io.File;
+import java.io.IOException;
 import java.util.ArrayList;
 
 public class RandomGameActivity extends AppCompatActivity implements View.OnClickListener,
-        InputEventListener, OnBackPressedDialogFragment.OnBackPressedDialogListener {
+        InputEventListener, GameListener, OnBackPressedDialogFragment.OnBackPressedDialogListener {
+
+    private static final String TAG = "RandomGameActivity";
 
     private Random game;
     private RandomGameListAdapter gameListAdapter;
     private ViewAnimator viewAnimator;
-    private DartLogDatabaseHelper dbHelper;
+    private AsyncDatabase database;
+    private GameJournal journal;
+
+    /**
+     * True while every turn of the game is in the journal. The game is kept in the saved
+     * instance state only when it is not.
+     */
+    private boolean journaled = false;
+
+    /**
+     * True while the finished leg is being saved. The game must not be modified until the
+     * save has completed.
+     */
+    private boolean saving = false;
+
+    /** Request journaled by an earlier instance of the activity, yet to be carried out. */
+    private GameJournal.Request resumedRequest = GameJournal.Request.NONE;
 
     @Override
     protected void onCreate(Bundle savedInstanceState) {
@@ -40,10 +67,18 @@ public class RandomGameActivity extends AppCompatActivity implements View.OnClic
 
         setSupportActionBar((Toolbar) findViewById(R.id.game_toolbar));
         viewAnimator = (ViewAnimator) findViewById(R.id.game_input);
-        dbHelper = new DartLogDatabaseHelper(this);
+        database = new AsyncDatabase(this);
+        journal = new GameJournal(new File(getFilesDir(), GameJournal.FILE_NAME));
 
         game = GetRandomGameInstance(savedInstanceState);
+        if (game == null) {
+            finish();
+            return;
+        }
+        game.addListener(this);
+        startJournal();
         gameListAdapter = new RandomGameListAdapter(this, game);
+        game.addListener(gameListAdapter);
 
         initListView();
         initNumPadView();
@@ -51,6 +86,10 @@ public class RandomGameActivity extends AppCompatActivity implements View.OnClic
         updateView();
         updateCurrentFieldTextView(game.getCurrentField());
         updateNextFieldTextView(game.getNextField());
+
+        // Carry out the request of an earlier instance that was interrupted while saving.
+        if (resumedRequest != GameJournal.Request.NONE)
+            saveLeg(resumedRequest);
     }
 
     @Override
@@ -59,44 +98,112 @@ public class RandomGameActivity extends AppCompatActivity implements View.OnClic
         onBackPressedDialogFragment.show(getFragmentManager(), "OnBackPressedDialogFragment");
     }
 
-    @NonNull
+    /**
+     * Get the game to play: the game kept in the saved instance state, the journaled game when
+     * resuming, or else a new game from the intent.
+     *
+     * @return The game, or null if the game to resume could not be read from the journal.
+     */
+    @Nullable
     private Random GetRandomGameInstance(Bundle savedInstanceState) {
         if (savedInstanceState != null) {
-            Random game = (Random) savedInstanceState.getSerializable("randomGame");
+            ParcelableGame game = savedInstanceState.getParcelable("randomGame");
             if (game != null)
-                return game;
+                return (Random) game.getGame();
+        }
+        if (savedInstanceState != null || getIntent().getBooleanExtra("resume", false)) {
+            GameJournal.Replay replay = readJournal();
+            if (replay != null && replay.getGame() instanceof Random) {
+                resumedRequest = replay.getRequest();
+                return (Random) replay.getGame();
+            }
+
+            // Drop an unreadable journal, so that it is not resumed again.
+            deleteJournal();
+            return null;
         }
         int nrOfTurns = getIntent().getIntExtra("turns", 10);
-        return new Random(this, createPlayerDataList(), nrOfTurns);
+        return new Random(createPlayerDataList(), nrOfTurns);
     }
 
     @Override
     protected void onSaveInstanceState(Bundle outState) {
         super.onSaveInstanceState(outState);
-        outState.putSerializable("randomGame", game);
+        if (!journaled)
+            outState.putParcelable("randomGame", new ParcelableGame(game));
     }
 
     @Override
     public void onClick(View v) {
         switch (v.getId()) {
             case R.id.new_leg:
-                dbHelper.addRandomMatch(game);
-                game.newLeg();
-                updateView();
+                saveLeg(GameJournal.Request.NEW_LEG);
                 break;
             case R.id.complete_match:
-                dbHelper.addRandomMatch(game);
-                completeMatch();
+                saveLeg(GameJournal.Request.COMPLETE_MATCH);
                 break;
         }
     }
 
+    /**
+     * Save the finished leg in the background, then start a new leg or complete the match.
+     *
+     * The request is journaled before the leg is saved. If the activity is recreated or the
+     * process dies before the save has completed, the game is resumed with the request and
+     * the leg is saved again. A leg that is already stored is not stored again, and the saves
+     * of all instances run in order on the writer thread, so the leg is stored only once.
+     */
+    private void saveLeg(final GameJournal.Request request) {
+        if (saving)
+            return;
+        saving = true;
+        if (journaled) {
+            try {
+                journal.request(request);
+            } catch (IOException e) {
+                onJournalFailed(e);
+            }
+        }
+        database.write(new AsyncDatabase.Operation<Void>() {
+            @Override
+            public Void run(DartLogDatabaseHelper databaseHelper) {
+                databaseHelper.addRandomMatch(game);
+                return null;
+            }
+        }, new AsyncDatabase.Callback<Void>() {
+            @Override
+            public void onResult(Void result) {
+                saving = false;
+                if (request == GameJournal.Request.NEW_LEG) {
+                    game.newLeg();
+                    startJournal();
+                    updateView();
+                } else {
+                    completeMatch();
+                }
+            }
+        });
+    }
+
+    @Override
+    protected void onDestroy() {
+        super.onDestroy();
+        database.cancelAll();
+        try {
+            journal.close();
+        } catch (IOException e) {
+            Log.w(TAG, "Failed to close game journal", e);
+        }
+    }
+
     @Override
     public boolean onOptionsItemSelected(MenuItem item) {
         switch (item.getItemId()) {
             case R.id.action_undo:
+                if (saving)
+                    return true;
                 game.undo();
-                updateView();
+                updateTurnView();
                 return true;
             default:
                 return super.onOptionsItemSelected(item);
@@ -113,11 +220,102 @@ public class RandomGameActivity extends AppCompatActivity implements View.OnClic
     @Override
     public void enter(int score) {
         game.submitScore(score);
-        updateView();
+        updateTurnView();
+    }
+
+    @Override
+    public void onScoreSubmitted(int playerIdx, int score) {
+        if (journaled) {
+            try {
+                journal.submitScore(score);
+            } catch (IOException e) {
+                onJournalFailed(e);
+            }
+        }
+    }
+
+    @Override
+    public void onTurnAdvanced(int previousPlayerIdx, int currentPlayerIdx) {
+        // The rows of the players are updated by the adapter.
+    }
+
+    @Override
+    public void onUndo(int playerIdx, int previousPlayerIdx) {
+        if (journaled) {
+            try {
+                journal.undo();
+            } catch (IOException e) {
+                onJournalFailed(e);
+            }
+        }
+    }
+
+    @Override
+    public void onBust(PlayerData player) {
+        showToast("Bust!");
+    }
+
+    @Override
+    public void onLegWon(PlayerData winner) {
+        showToast(String.format("Winner: %s!", winner.getPlayerName()));
+    }
+
+    /**
+     * Replay the journal left by an earlier instance of the activity.
+     *
+     * @return The replayed journal, or null if there is no readable journal.
+     */
+    private GameJournal.Replay readJournal() {
+        try {
+            return GameJournal.replay(new File(getFilesDir(), GameJournal.FILE_NAME));
+        } catch (IOException e) {
+            Log.w(TAG, "Failed to read game journal", e);
+            return null;
+        }
+    }
+
+    /**
+     * Journal the game from its current state, so that it can be resumed if the process dies.
+     */
+    private void startJournal() {
+        try {
+            journal.start(game);
+            journaled = true;
+        } catch (IOException e) {
+            onJournalFailed(e);
+        }
+    }
+
+    private void onJournalFailed(IOException e) {
+        Log.w(TAG, "Failed to write game journal", e);
+        journaled = false;
+    }
+
+    private void deleteJournal() {
+        journaled = false;
+        try {
+            journal.delete();
+        } catch (IOException e) {
+            Log.w(TAG, "Failed to delete game journal", e);
+        }
+    }
+
+    private void showToast(CharSequence text) {
+        Toast toast = Toast.makeText(this, text, Toast.LENGTH_SHORT);
+        toast.setGravity(Gravity.CENTER, 0, 0);
+        toast.show();
     }
 
     private void updateView() {
         gameListAdapter.notifyDataSetChanged();
+        updateTurnView();
+    }
+
+    /**
+     * Update the views outside of the player list after a turn. The rows of the player list
+     * are updated by the adapter as it is notified of the game events.
+     */
+    private void updateTurnView() {
         scrollToPlayerInList();
         if (game.isGameOver()) {
             setGameDoneView();
@@ -199,6 +397,7 @@ public class RandomGameActivity extends AppCompatActivity implements View.OnClic
     }
 
     private void completeMatch() {
+        deleteJournal();
         Intent i = new Intent(this, MainActivity.class);
         i.addFlags(Intent.FLAG_ACTIVITY_CLEAR_TOP);
         startActivity(i);
@@ -206,6 +405,7 @@ public class RandomGameActivity extends AppCompatActivity implements View.OnClic
 
     @Override
     public void onDialogPositiveClick(DialogFragment dialog) {
+        deleteJournal();
         finish();
     }
 
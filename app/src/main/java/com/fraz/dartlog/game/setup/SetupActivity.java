@@ -20,6 +20,7 @@ import android.widget.Toast;
 import android.widget.ViewAnimator;
 
 import com.fraz.dartlog.R;
+import com.fraz.dartlog.db.AsyncDatabase;
 import com.fraz.dartlog.db.DartLogDatabaseHelper;
 import com.fraz.dartlog.game.random.RandomGameActivity;
 import com.fraz.dartlog.game.random.RandomSettingsFragment;
@@ -34,7 +35,7 @@ public class SetupActivity extends AppCompatActivity
     private AvailablePlayersRecyclerAdapter availablePlayersListAdapter;
     private ParticipantsListRecyclerAdapter participantsRecyclerAdapter;
     private ArrayList<String> participantNames;
-    private DartLogDatabaseHelper dbHelper;
+    private AsyncDatabase database;
     private Dialog selectPlayerDialog;
     private ItemTouchHelper itemTouchHelper;
     private ViewAnimator viewAnimator;
@@ -47,7 +48,7 @@ public class SetupActivity extends AppCompatActivity
         setContentView(R.layout.activity_setup);
 
         RecyclerView.LayoutManager participantsLayoutManager = new LinearLayoutManager(this);
-        dbHelper = new DartLogDatabaseHelper(this);
+        database = new AsyncDatabase(this);
         participantNames = new ArrayList<>();
         participantsRecyclerAdapter = new ParticipantsListRecyclerAdapter(this, participantNames);
 
@@ -138,7 +139,8 @@ public class SetupActivity extends AppCompatActivity
         final RecyclerView availablePlayersRecyclerView = (RecyclerView) selectPlayerDialog.findViewById(R.id.setup_dialog_available_players);
         assert availablePlayersRecyclerView != null;
 
-        ArrayList<String> playerNames = fetchPlayerNamesFromDataBase();
+        ArrayList<String> playerNames = new ArrayList<>();
+        fetchPlayerNamesFromDataBase(playerNames);
         availablePlayersListAdapter = new AvailablePlayersRecyclerAdapter(playerNames);
         availablePlayersRecyclerView.setAdapter(availablePlayersListAdapter);
         availablePlayersRecyclerView.setLayoutManager(availablePlayersLayoutManager);
@@ -156,10 +158,19 @@ public class SetupActivity extends AppCompatActivity
         selectPlayerDialog.show();
     }
 
-    private ArrayList<String> fetchPlayerNamesFromDataBase() {
-        ArrayList<String> list = new ArrayList<>();
-        list.addAll(dbHelper.getPlayers());
-        return list;
+    private void fetchPlayerNamesFromDataBase(final ArrayList<String> list) {
+        database.read(new AsyncDatabase.Operation<ArrayList<String>>() {
+            @Override
+            public ArrayList<String> run(DartLogDatabaseHelper databaseHelper) {
+                return databaseHelper.getPlayers();
+            }
+        }, new AsyncDatabase.Callback<ArrayList<String>>() {
+            @Override
+            public void onResult(ArrayList<String> result) {
+                list.addAll(result);
+                availablePlayersListAdapter.notifyDataSetChanged();
+            }
+        });
     }
 
     private void showMustAddPlayersErrorToast() {
@@ -233,6 +244,12 @@ public class SetupActivity extends AppCompatActivity
                 getResources().getString(R.string.pref_key_x01_double_out_attempts), "5"));
     }
 
+    @Override
+    protected void onDestroy() {
+        super.onDestroy();
+        database.cancelAll();
+    }
+
     @Override
     public void onDragStarted(RecyclerView.ViewHolder viewHolder) {
         itemTouchHelper.startDrag(viewHolder);
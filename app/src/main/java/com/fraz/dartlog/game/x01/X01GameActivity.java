@@ -3,10 +3,12 @@ package com.fraz.dartlog.game.x01;
 import android.app.DialogFragment;
 import android.content.Intent;
 import android.os.Bundle;
-import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
 import android.support.v7.app.AppCompatActivity;
 import android.support.v7.widget.RecyclerView;
 import android.support.v7.widget.Toolbar;
+import android.util.Log;
+import android.view.Gravity;
 import android.view.Menu;
 import android.view.MenuInflater;
 import android.view.MenuItem;
@@ -14,24 +16,50 @@ import android.view.View;
 import android.view.ViewGroup;
 import android.widget.Button;
 import android.widget.TextView;
+import android.widget.Toast;
 import android.widget.ViewAnimator;
 
 import com.fraz.dartlog.MainActivity;
 import com.fraz.dartlog.OnBackPressedDialogFragment;
 import com.fraz.dartlog.R;
+import com.fraz.dartlog.db.AsyncDatabase;
 import com.fraz.dartlog.db.DartLogDatabaseHelper;
+import com.fraz.dartlog.game.GameJournal;
+import com.fraz.dartlog.game.GameListener;
 import com.fraz.dartlog.game.InputEventListener;
 import com.fraz.dartlog.game.NumPadHandler;
+import com.fraz.dartlog.game.ParcelableGame;
+import com.fraz.dartlog.game.PlayerData;
 
+import java.io.File;
+import java.io.IOException;
 import java.util.ArrayList;
 
 public class X01GameActivity extends AppCompatActivity implements View.OnClickListener,
-        InputEventListener, OnBackPressedDialogFragment.OnBackPressedDialogListener {
+        InputEventListener, GameListener, OnBackPressedDialogFragment.OnBackPressedDialogListener {
+
+    private static final String TAG = "X01GameActivity";
 
     private X01 game;
     private X01GameListAdapter gameListAdapter;
     private ViewAnimator viewAnimator;
-    private DartLogDatabaseHelper dbHelper;
+    private AsyncDatabase database;
+    private GameJournal journal;
+
+    /**
+     * True while every turn of the game is in the journal. The game is kept in the saved
+     * instance state only when it is not.
+     */
+    private boolean journaled = false;
+
+    /**
+     * True while the finished leg is being saved. The game must not be modified until the
+     * save has completed.
+     */
+    private boolean saving = false;
+
+    /** Request journaled by an earlier instance of the activity, yet to be carried out. */
+    private GameJournal.Request resumedRequest = GameJournal.Request.NONE;
     private TextView roundTextView;
 
     @Override
@@ -41,16 +69,28 @@ public class X01GameActivity extends AppCompatActivity implements View.OnClickLi
 
         setSupportActionBar((Toolbar) findViewById(R.id.game_toolbar));
         viewAnimator = (ViewAnimator) findViewById(R.id.game_input);
-        dbHelper = new DartLogDatabaseHelper(this);
+        database = new AsyncDatabase(this);
+        journal = new GameJournal(new File(getFilesDir(), GameJournal.FILE_NAME));
         roundTextView = (TextView) findViewById(R.id.game_header_round);
 
         game = GetX01GameInstance(savedInstanceState);
+        if (game == null) {
+            finish();
+            return;
+        }
+        game.addListener(this);
+        startJournal();
         gameListAdapter = new X01GameListAdapter(game);
+        game.addListener(gameListAdapter);
 
         initListView();
         initNumPadView();
         initGameDoneView();
         updateView();
+
+        // Carry out the request of an earlier instance that was interrupted while saving.
+        if (resumedRequest != GameJournal.Request.NONE)
+            saveLeg(resumedRequest);
     }
 
     @Override
@@ -59,43 +99,111 @@ public class X01GameActivity extends AppCompatActivity implements View.OnClickLi
         onBackPressedDialogFragment.show(getFragmentManager(), "OnBackPressedDialogFragment");
     }
 
-    @NonNull
+    /**
+     * Get the game to play: the game kept in the saved instance state, the journaled game when
+     * resuming, or else a new game from the intent.
+     *
+     * @return The game, or null if the game to resume could not be read from the journal.
+     */
+    @Nullable
     private X01 GetX01GameInstance(Bundle savedInstanceState) {
         if (savedInstanceState != null) {
-            X01 game = (X01) savedInstanceState.getSerializable("game");
+            ParcelableGame game = savedInstanceState.getParcelable("game");
             if (game != null)
-                return game;
+                return (X01) game.getGame();
         }
-        return new X01(this, createPlayerDataList());
+        if (savedInstanceState != null || getIntent().getBooleanExtra("resume", false)) {
+            GameJournal.Replay replay = readJournal();
+            if (replay != null && replay.getGame() instanceof X01) {
+                resumedRequest = replay.getRequest();
+                return (X01) replay.getGame();
+            }
+
+            // Drop an unreadable journal, so that it is not resumed again.
+            deleteJournal();
+            return null;
+        }
+        return new X01(createPlayerDataList());
     }
 
     @Override
     protected void onSaveInstanceState(Bundle outState) {
         super.onSaveInstanceState(outState);
-        outState.putSerializable("game", game);
+        if (!journaled)
+            outState.putParcelable("game", new ParcelableGame(game));
     }
 
     @Override
     public void onClick(View v) {
         switch (v.getId()) {
             case R.id.new_leg:
-                dbHelper.addX01Match(game);
-                game.newLeg();
-                updateView();
+                saveLeg(GameJournal.Request.NEW_LEG);
                 break;
             case R.id.complete_match:
-                dbHelper.addX01Match(game);
-                completeMatch();
+                saveLeg(GameJournal.Request.COMPLETE_MATCH);
                 break;
         }
     }
 
+    /**
+     * Save the finished leg in the background, then start a new leg or complete the match.
+     *
+     * The request is journaled before the leg is saved. If the activity is recreated or the
+     * process dies before the save has completed, the game is resumed with the request and
+     * the leg is saved again. A leg that is already stored is not stored again, and the saves
+     * of all instances run in order on the writer thread, so the leg is stored only once.
+     */
+    private void saveLeg(final GameJournal.Request request) {
+        if (saving)
+            return;
+        saving = true;
+        if (journaled) {
+            try {
+                journal.request(request);
+            } catch (IOException e) {
+                onJournalFailed(e);
+            }
+        }
+        database.write(new AsyncDatabase.Operation<Void>() {
+            @Override
+            public Void run(DartLogDatabaseHelper databaseHelper) {
+                databaseHelper.addX01Match(game);
+                return null;
+            }
+        }, new AsyncDatabase.Callback<Void>() {
+            @Override
+            public void onResult(Void result) {
+                saving = false;
+                if (request == GameJournal.Request.NEW_LEG) {
+                    game.newLeg();
+                    startJournal();
+                    updateView();
+                } else {
+                    completeMatch();
+                }
+            }
+        });
+    }
+
+    @Override
+    protected void onDestroy() {
+        super.onDestroy();
+        database.cancelAll();
+        try {
+            journal.close();
+        } catch (IOException e) {
+            Log.w(TAG, "Failed to close game journal", e);
+        }
+    }
+
     @Override
     public boolean onOptionsItemSelected(MenuItem item) {
         switch (item.getItemId()) {
             case R.id.action_undo:
+                if (saving)
+                    return true;
                 game.undo();
-                updateView();
+                updateTurnView();
                 return true;
             default:
                 return super.onOptionsItemSelected(item);
@@ -112,11 +220,102 @@ public class X01GameActivity extends AppCompatActivity implements View.OnClickLi
     @Override
     public void enter(int score) {
         game.submitScore(score);
-        updateView();
+        updateTurnView();
+    }
+
+    @Override
+    public void onScoreSubmitted(int playerIdx, int score) {
+        if (journaled) {
+            try {
+                journal.submitScore(score);
+            } catch (IOException e) {
+                onJournalFailed(e);
+            }
+        }
+    }
+
+    @Override
+    public void onTurnAdvanced(int previousPlayerIdx, int currentPlayerIdx) {
+        // The rows of the players are updated by the adapter.
+    }
+
+    @Override
+    public void onUndo(int playerIdx, int previousPlayerIdx) {
+        if (journaled) {
+            try {
+                journal.undo();
+            } catch (IOException e) {
+                onJournalFailed(e);
+            }
+        }
+    }
+
+    @Override
+    public void onBust(PlayerData player) {
+        showToast("Bust!");
+    }
+
+    @Override
+    public void onLegWon(PlayerData winner) {
+        showToast(String.format("Winner: %s!", winner.getPlayerName()));
+    }
+
+    /**
+     * Replay the journal left by an earlier instance of the activity.
+     *
+     * @return The replayed journal, or null if there is no readable journal.
+     */
+    private GameJournal.Replay readJournal() {
+        try {
+            return GameJournal.replay(new File(getFilesDir(), GameJournal.FILE_NAME));
+        } catch (IOException e) {
+            Log.w(TAG, "Failed to read game journal", e);
+            return null;
+        }
+    }
+
+    /**
+     * Journal the game from its current state, so that it can be resumed if the process dies.
+     */
+    private void startJournal() {
+        try {
+            journal.start(game);
+            journaled = true;
+        } catch (IOException e) {
+            onJournalFailed(e);
+        }
+    }
+
+    private void onJournalFailed(IOException e) {
+        Log.w(TAG, "Failed to write game journal", e);
+        journaled = false;
+    }
+
+    private void deleteJournal() {
+        journaled = false;
+        try {
+            journal.delete();
+        } catch (IOException e) {
+            Log.w(TAG, "Failed to delete game journal", e);
+        }
+    }
+
+    private void showToast(CharSequence text) {
+        Toast toast = Toast.makeText(this, text, Toast.LENGTH_SHORT);
+        toast.setGravity(Gravity.CENTER, 0, 0);
+        toast.show();
     }
 
     private void updateView() {
         gameListAdapter.notifyDataSetChanged();
+        updateTurnView();
+    }
+
+    /**
+     * Update the views outside of the player list after a turn. The rows of the player list
+     * are updated by the adapter as it is notified of the game events.
+     */
+    private void updateTurnView() {
         scrollToPlayerInList();
         if (game.isGameOver()) {
             setGameDoneView();
@@ -148,7 +347,7 @@ public class X01GameActivity extends AppCompatActivity implements View.OnClickLi
         for (String playerName : playerNames) {
             X01ScoreManager scoreManager = new X01ScoreManager(x);
             scoreManager.setDoubleOutAttempts(doubleOutAttempts);
-            playerDataList.add(new X01PlayerData(this, playerName, scoreManager));
+            playerDataList.add(new X01PlayerData(playerName, scoreManager));
         }
         return playerDataList;
     }
@@ -183,6 +382,7 @@ public class X01GameActivity extends AppCompatActivity implements View.OnClickLi
     }
 
     private void completeMatch() {
+        deleteJournal();
         Intent i = new Intent(this, MainActivity.class);
         i.addFlags(Intent.FLAG_ACTIVITY_CLEAR_TOP);
         startActivity(i);
@@ -190,6 +390,7 @@ public class X01GameActivity extends AppCompatActivity implements View.OnClickLi
 
     @Override
     public void onDialogPositiveClick(DialogFragment dialog) {
+        deleteJournal();
         finish();
     }
 
@@ -12,15 +12,18 @@ import com.fraz.dartlog.game.GameListAdapter;
 public class X01GameListAdapter extends GameListAdapter<X01GameListAdapter.X01ViewHolder> {
 
 
+    /** Double out attempts labels by the number of remaining attempts, made when first used. */
+    private final String[] attemptsLabels;
+
     public X01GameListAdapter(X01 game) {
         super(game);
+        attemptsLabels = new String[Math.max(0, game.getDoubleOutAttempts()) + 1];
     }
 
     @Override
-    public void onBindViewHolder(X01ViewHolder holder, int position) {
-        super.onBindViewHolder(holder, position);
-        final X01PlayerData player = (X01PlayerData) this.game.getPlayer(position);
-        updateCheckoutView(player, holder);
+    protected void bindScore(X01ViewHolder holder, int position) {
+        super.bindScore(holder, position);
+        updateCheckoutView((X01PlayerData) game.getPlayer(position), holder);
     }
 
     @Override
@@ -43,6 +46,14 @@ public class X01GameListAdapter extends GameListAdapter<X01GameListAdapter.X01Vi
         }
     }
 
+    private String getAttemptsLabel(X01ViewHolder holder, int remainingAttempts) {
+        if (attemptsLabels[remainingAttempts] == null) {
+            attemptsLabels[remainingAttempts] = holder.itemView.getContext().getString(
+                    R.string.double_out_attempts, remainingAttempts);
+        }
+        return attemptsLabels[remainingAttempts];
+    }
+
     private void updateCheckoutView(X01PlayerData player, X01ViewHolder holder) {
         if (player.getScore() == 0) {
             holder.checkout_view.setVisibility(View.VISIBLE);
@@ -56,9 +67,7 @@ public class X01GameListAdapter extends GameListAdapter<X01GameListAdapter.X01Vi
                     holder.checkoutLabel.setText(R.string.double_out);
                     break;
                 case DOUBLE_ATTEMPT:
-                    holder.checkoutLabel.setText(R.string.double_out_attempts);
-                    String label = (String) holder.checkoutLabel.getText();
-                    holder.checkoutLabel.setText(String.format(label,
+                    holder.checkoutLabel.setText(getAttemptsLabel(holder,
                             player.getRemainingDoubleOutAttempts()));
                     break;
                 case SINGLE:
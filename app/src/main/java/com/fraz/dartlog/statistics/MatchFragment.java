@@ -19,21 +19,22 @@ import com.db.chart.view.ChartView;
 import com.db.chart.view.LineChartView;
 import com.fraz.dartlog.R;
 import com.fraz.dartlog.Util;
-import com.fraz.dartlog.game.GameData;
-import com.fraz.dartlog.game.PlayerData;
-
-import java.util.LinkedList;
+import com.fraz.dartlog.db.AsyncDatabase;
+import com.fraz.dartlog.db.DartLogDatabaseHelper;
+import com.fraz.dartlog.game.MatchRecord;
+import com.fraz.dartlog.game.PlayerResult;
 
 public class MatchFragment extends Fragment {
-    public static final String ARG_GAME_DATA = "game_data";
-    private GameData gameData;
+    public static final String ARG_MATCH_ID = "match_id";
+    private AsyncDatabase database;
+    private MatchRecord gameData;
     private LineChartView matchChart;
 
-    public static MatchFragment newInstance(GameData game) {
+    public static MatchFragment newInstance(long matchId) {
         MatchFragment matchFragment = new MatchFragment();
 
         Bundle args = new Bundle();
-        args.putSerializable(ARG_GAME_DATA, game);
+        args.putLong(ARG_MATCH_ID, matchId);
         matchFragment.setArguments(args);
 
         return matchFragment;
@@ -44,14 +45,35 @@ public class MatchFragment extends Fragment {
     public View onCreateView(LayoutInflater inflater,
                              @Nullable ViewGroup container,
                              @Nullable Bundle savedInstanceState) {
-        View layout = inflater.inflate(R.layout.fragment_match, container, false);
-        Bundle args = getArguments();
+        final View layout = inflater.inflate(R.layout.fragment_match, container, false);
+        final long matchId = getArguments().getLong(ARG_MATCH_ID);
+        database = new AsyncDatabase(getContext());
+        database.read(new AsyncDatabase.Operation<MatchRecord>() {
+            @Override
+            public MatchRecord run(DartLogDatabaseHelper databaseHelper) {
+                return databaseHelper.getMatchData(matchId);
+            }
+        }, new AsyncDatabase.Callback<MatchRecord>() {
+            @Override
+            public void onResult(MatchRecord result) {
+                if (result != null)
+                    showMatch(layout, result);
+            }
+        });
+        return layout;
+    }
+
+    @Override
+    public void onDestroyView() {
+        super.onDestroyView();
+        database.cancelAll();
+    }
+
+    private void showMatch(View layout, MatchRecord gameData) {
+        this.gameData = gameData;
         MatchTableView matchTable = (MatchTableView) layout.findViewById(R.id.match_table);
-        gameData = (GameData) args.getSerializable(ARG_GAME_DATA);
         matchTable.setGame(gameData);
-
         initMatchChart(layout);
-        return layout;
     }
 
     private void initMatchChart(View layout) {
@@ -78,15 +100,14 @@ public class MatchFragment extends Fragment {
         matchChart.show();
     }
 
-    private void addDataForPlayer(ChartView matchChart, PlayerData player, int matchTurns, int color) {
+    private void addDataForPlayer(ChartView matchChart, PlayerResult player, int matchTurns,
+                                  int color) {
         LineSet dataSet = new LineSet(new String[]{}, new float[]{});
-        LinkedList<Integer> totalScores = player.getTotalScoreHistory();
-        int playedTurns = totalScores.size();
-        for (int i = 0; i < playedTurns; i++) {
-            dataSet.addPoint(String.valueOf(i), totalScores.get(i));
+        int playedTurns = player.getTurns();
+        for (int i = 0; i <= playedTurns; i++) {
+            dataSet.addPoint(String.valueOf(i), player.getTotal(i));
         }
 
-        dataSet.addPoint(String.valueOf(totalScores.size()), player.getScore());
         if (matchTurns > playedTurns) {
             dataSet.addPoint(String.valueOf(matchTurns), player.getScore());
             dataSet.endAt(matchTurns);
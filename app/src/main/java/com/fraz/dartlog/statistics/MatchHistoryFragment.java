@@ -10,17 +10,21 @@ import android.view.View;
 import android.view.ViewGroup;
 
 import com.fraz.dartlog.R;
-import com.fraz.dartlog.db.DartLogDatabaseHelper;
-import com.fraz.dartlog.game.GameData;
-
-import java.util.ArrayList;
+import com.fraz.dartlog.db.AsyncDatabase;
 
 import static com.fraz.dartlog.statistics.ProfileDetailFragment.ARG_ITEM_NAME;
 
 public class MatchHistoryFragment extends Fragment {
 
+    /**
+     * Number of not yet visible matches at which the next page is loaded.
+     */
+    private static final int PREFETCH_DISTANCE = PagedMatchList.PAGE_SIZE / 2;
+
     private String profileName;
-    private ArrayList<GameData> playerGameData;
+    private AsyncDatabase database;
+    private PagedMatchList playerGameData;
+    private MatchRecyclerViewAdapter adapter;
 
     /**
      * Mandatory empty constructor for the fragment manager to instantiate the
@@ -35,11 +39,29 @@ public class MatchHistoryFragment extends Fragment {
 
         if (getArguments().containsKey(ARG_ITEM_NAME)) {
             profileName = getArguments().getString(ARG_ITEM_NAME);
-            DartLogDatabaseHelper databaseHelper = new DartLogDatabaseHelper(getActivity());
-            playerGameData = databaseHelper.getPlayerMatchData(profileName);
+            database = new AsyncDatabase(getActivity());
+            playerGameData = new PagedMatchList(database, profileName);
+            loadNextPage();
         }
     }
 
+    @Override
+    public void onDestroy() {
+        super.onDestroy();
+        if (database != null)
+            database.cancelAll();
+    }
+
+    private void loadNextPage() {
+        playerGameData.loadNextPage(new PagedMatchList.OnPageLoadedListener() {
+            @Override
+            public void onPageLoaded(int positionStart, int count) {
+                if (adapter != null)
+                    adapter.notifyItemRangeInserted(positionStart, count);
+            }
+        });
+    }
+
     @Override
     public View onCreateView(LayoutInflater inflater, ViewGroup container,
                              Bundle savedInstanceState) {
@@ -48,9 +70,18 @@ public class MatchHistoryFragment extends Fragment {
         if (view instanceof RecyclerView) {
             Context context = view.getContext();
             RecyclerView recyclerView = (RecyclerView) view;
-            recyclerView.setLayoutManager(new LinearLayoutManager(context));
-            recyclerView.setAdapter(
-                    new MatchRecyclerViewAdapter(getContext(), playerGameData, profileName));
+            final LinearLayoutManager layoutManager = new LinearLayoutManager(context);
+            adapter = new MatchRecyclerViewAdapter(getContext(), playerGameData, profileName);
+            recyclerView.setLayoutManager(layoutManager);
+            recyclerView.setAdapter(adapter);
+            recyclerView.addOnScrollListener(new RecyclerView.OnScrollListener() {
+                @Override
+                public void onScrolled(RecyclerView recyclerView, int dx, int dy) {
+                    int lastVisible = layoutManager.findLastVisibleItemPosition();
+                    if (lastVisible >= playerGameData.size() - PREFETCH_DISTANCE)
+                        loadNextPage();
+                }
+            });
         }
         return view;
     }
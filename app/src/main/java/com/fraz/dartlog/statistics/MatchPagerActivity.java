@@ -6,10 +6,10 @@ import android.support.v7.app.AppCompatActivity;
 import android.support.v7.widget.Toolbar;
 
 import com.fraz.dartlog.R;
+import com.fraz.dartlog.db.AsyncDatabase;
 import com.fraz.dartlog.db.DartLogDatabaseHelper;
-import com.fraz.dartlog.game.GameData;
+import com.fraz.dartlog.game.MatchRecord;
 
-import java.util.ArrayList;
 import java.util.Locale;
 
 public class MatchPagerActivity extends AppCompatActivity {
@@ -17,22 +17,66 @@ public class MatchPagerActivity extends AppCompatActivity {
     public static final String ARG_ITEM_NAME = "ARG_NAME";
     public static final String ARG_ITEM_POSITION = "ARG_POSITION";
 
+    private AsyncDatabase database;
+    private MatchPagerAdapter adapter;
+    private ViewPager matchPager;
+
     @Override
     public void onCreate(Bundle savedInstanceState) {
         super.onCreate(savedInstanceState);
-        String profileName = getIntent().getStringExtra(ARG_ITEM_NAME);
-        int position = getIntent().getIntExtra(ARG_ITEM_POSITION, 0);
-        DartLogDatabaseHelper databaseHelper = new DartLogDatabaseHelper(this);
-        ArrayList<GameData> playerGameData = databaseHelper.getPlayerMatchData(profileName);
+        final String profileName = getIntent().getStringExtra(ARG_ITEM_NAME);
+        final int initialPosition = getIntent().getIntExtra(ARG_ITEM_POSITION, 0);
+        database = new AsyncDatabase(this);
         setContentView(R.layout.activity_match_pager);
 
-        MatchPagerAdapter adapter =
-                new MatchPagerAdapter(getSupportFragmentManager(), playerGameData);
-        ViewPager matchPager = (ViewPager) findViewById(R.id.match_pager);
+        adapter = new MatchPagerAdapter(getSupportFragmentManager());
+        matchPager = (ViewPager) findViewById(R.id.match_pager);
         matchPager.setAdapter(adapter);
-        matchPager.setCurrentItem(position);
         matchPager.addOnPageChangeListener(new OnPageChangeListener());
-        UpdateToolbar(position);
+        UpdateToolbar(initialPosition);
+
+        database.read(new AsyncDatabase.Operation<long[]>() {
+            @Override
+            public long[] run(DartLogDatabaseHelper databaseHelper) {
+                return databaseHelper.getPlayerMatchIds(profileName);
+            }
+        }, new AsyncDatabase.Callback<long[]>() {
+            @Override
+            public void onResult(long[] matchIds) {
+                adapter.setMatchIds(matchIds);
+                if (initialPosition < matchIds.length)
+                    matchPager.setCurrentItem(initialPosition, false);
+                prefetchAround(matchPager.getCurrentItem());
+            }
+        });
+    }
+
+    @Override
+    protected void onDestroy() {
+        super.onDestroy();
+        database.cancelAll();
+    }
+
+    /**
+     * Read the matches of the pages just beyond the pages kept by the pager into the match
+     * cache, so that they are ready when the pages are created.
+     */
+    private void prefetchAround(int position) {
+        int distance = matchPager.getOffscreenPageLimit() + 1;
+        prefetch(position - distance);
+        prefetch(position + distance);
+    }
+
+    private void prefetch(int position) {
+        if (position < 0 || position >= adapter.getCount())
+            return;
+        final long matchId = adapter.getMatchId(position);
+        database.read(new AsyncDatabase.Operation<MatchRecord>() {
+            @Override
+            public MatchRecord run(DartLogDatabaseHelper databaseHelper) {
+                return databaseHelper.getMatchData(matchId);
+            }
+        }, null);
     }
 
     private void UpdateToolbar(int position) {
@@ -47,6 +91,7 @@ public class MatchPagerActivity extends AppCompatActivity {
         @Override
         public void onPageSelected(int position) {
             UpdateToolbar(position);
+            prefetchAround(position);
         }
     }
 }
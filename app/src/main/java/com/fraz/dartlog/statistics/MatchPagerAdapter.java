@@ -4,32 +4,37 @@ import android.support.v4.app.Fragment;
 import android.support.v4.app.FragmentManager;
 import android.support.v4.app.FragmentStatePagerAdapter;
 
-import com.fraz.dartlog.game.GameData;
-
-import java.util.ArrayList;
-import java.util.Collections;
-
 /**
  * Created by Filip on 2017-02-05.
  */
 
 public class MatchPagerAdapter extends FragmentStatePagerAdapter {
 
-    private ArrayList<GameData> games;
+    private long[] matchIds = new long[0];
 
-    public MatchPagerAdapter(FragmentManager fm, ArrayList<GameData> games) {
+    MatchPagerAdapter(FragmentManager fm) {
         super(fm);
-        this.games = games;
-        Collections.reverse(this.games);
+    }
+
+    /**
+     * @param matchIds The ids of the matches to page through. Every page reads its own match.
+     */
+    void setMatchIds(long[] matchIds) {
+        this.matchIds = matchIds;
+        notifyDataSetChanged();
+    }
+
+    long getMatchId(int position) {
+        return matchIds[position];
     }
 
     @Override
     public Fragment getItem(int position) {
-        return MatchFragment.newInstance(games.get(position));
+        return MatchFragment.newInstance(matchIds[position]);
     }
 
     @Override
     public int getCount() {
-        return games.size();
+        return matchIds.length;
     }
 }
@@ -10,26 +10,23 @@ import android.view.ViewGroup;
 import android.widget.TextView;
 
 import com.fraz.dartlog.R;
-import com.fraz.dartlog.game.GameData;
+import com.fraz.dartlog.game.MatchRecord;
 
 import java.text.SimpleDateFormat;
-import java.util.ArrayList;
 import java.util.Calendar;
-import java.util.Collections;
 import java.util.Date;
 import java.util.Locale;
 
 public class MatchRecyclerViewAdapter extends RecyclerView.Adapter<MatchRecyclerViewAdapter.ViewHolder> {
 
     private Context context;
-    private ArrayList<GameData> gameData;
+    private PagedMatchList gameData;
     private String playerName;
 
-    public MatchRecyclerViewAdapter(Context context, ArrayList<GameData> gameData, String playerName) {
+    MatchRecyclerViewAdapter(Context context, PagedMatchList gameData, String playerName) {
         this.context = context;
         this.gameData = gameData;
         this.playerName = playerName;
-        Collections.reverse(this.gameData);
     }
 
     @Override
@@ -41,7 +38,7 @@ public class MatchRecyclerViewAdapter extends RecyclerView.Adapter<MatchRecycler
 
     @Override
     public void onBindViewHolder(final ViewHolder holder, final int position) {
-        GameData game = gameData.get(position);
+        MatchRecord game = gameData.get(position);
 
         holder.gameType.setText(game.getGameType().toUpperCase());
         bindPlayers(holder, game);
@@ -59,7 +56,7 @@ public class MatchRecyclerViewAdapter extends RecyclerView.Adapter<MatchRecycler
         });
     }
 
-    private void bindPlayers(ViewHolder holder, GameData game) {
+    private void bindPlayers(ViewHolder holder, MatchRecord game) {
         int numberOfPlayers = game.getNumberOfPlayers();
         String text;
         if (numberOfPlayers == 1)
@@ -69,7 +66,7 @@ public class MatchRecyclerViewAdapter extends RecyclerView.Adapter<MatchRecycler
         holder.players.setText(text);
     }
 
-    private void bindResult(ViewHolder holder, GameData game) {
+    private void bindResult(ViewHolder holder, MatchRecord game) {
         if (game.getPlayer(playerName).equals(game.getWinner())) {
             holder.result.setText(R.string.win);
             holder.result.setTextColor(context.getResources().getColor(R.color.green_win));
@@ -80,8 +77,8 @@ public class MatchRecyclerViewAdapter extends RecyclerView.Adapter<MatchRecycler
         }
     }
 
-    private void bindDate(ViewHolder holder, GameData game) {
-        Date date = game.getDate().getTime();
+    private void bindDate(ViewHolder holder, MatchRecord game) {
+        Date date = new Date(game.getDate());
         if (DateUtils.isToday(date.getTime()))
             holder.date.setText(DateUtils.getRelativeTimeSpanString(date.getTime(),
                     Calendar.getInstance().getTimeInMillis(),
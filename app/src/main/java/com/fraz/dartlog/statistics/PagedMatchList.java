@@ -0,0 +1,87 @@
+package com.fraz.dartlog.statistics;
+
+import com.fraz.dartlog.db.AsyncDatabase;
+import com.fraz.dartlog.db.DartLogDatabaseHelper;
+import com.fraz.dartlog.game.MatchRecord;
+
+import java.util.ArrayList;
+
+/**
+ * The match history of a player, newest match first, loaded from the database one page at a
+ * time in the background. Must only be used from the main thread.
+ */
+class PagedMatchList {
+
+    static final int PAGE_SIZE = 20;
+
+    /**
+     * Notified on the main thread when a page has been loaded.
+     */
+    interface OnPageLoadedListener {
+        void onPageLoaded(int positionStart, int count);
+    }
+
+    private final AsyncDatabase database;
+    private final String playerName;
+    private final ArrayList<MatchRecord> matches = new ArrayList<>();
+    private boolean complete = false;
+    private boolean loading = false;
+
+    PagedMatchList(AsyncDatabase database, String playerName) {
+        this.database = database;
+        this.playerName = playerName;
+    }
+
+    /**
+     * Get a loaded match.
+     *
+     * @param position The position of the match, 0 being the newest match.
+     * @return The match at the given position.
+     */
+    MatchRecord get(int position) {
+        return matches.get(position);
+    }
+
+    /**
+     * Start loading the next page of matches, unless all matches are loaded or a page is
+     * already being loaded.
+     *
+     * @param listener Notified when the page has been loaded.
+     */
+    void loadNextPage(final OnPageLoadedListener listener) {
+        if (complete || loading)
+            return;
+
+        loading = true;
+        final MatchRecord last = matches.isEmpty() ? null : matches.get(matches.size() - 1);
+        database.read(new AsyncDatabase.Operation<ArrayList<MatchRecord>>() {
+            @Override
+            public ArrayList<MatchRecord> run(DartLogDatabaseHelper databaseHelper) {
+                return databaseHelper.getPlayerMatchDataPage(playerName, last, PAGE_SIZE);
+            }
+        }, new AsyncDatabase.Callback<ArrayList<MatchRecord>>() {
+            @Override
+            public void onResult(ArrayList<MatchRecord> page) {
+                int positionStart = matches.size();
+                matches.addAll(page);
+                complete = page.size() < PAGE_SIZE;
+                loading = false;
+                listener.onPageLoaded(positionStart, page.size());
+            }
+        });
+    }
+
+    /**
+     * @return The number of matches loaded so far.
+     */
+    int size() {
+        return matches.size();
+    }
+
+    /**
+     * @return True if all matches of the player have been loaded.
+     */
+    boolean isComplete() {
+        return complete;
+    }
+}
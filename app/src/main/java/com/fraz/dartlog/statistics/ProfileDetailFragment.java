@@ -10,12 +10,12 @@ import android.view.ViewGroup;
 import android.widget.TextView;
 
 import com.fraz.dartlog.R;
+import com.fraz.dartlog.db.AsyncDatabase;
 import com.fraz.dartlog.db.DartLogDatabaseHelper;
-import com.fraz.dartlog.game.GameData;
-import com.fraz.dartlog.game.PlayerData;
+import com.fraz.dartlog.db.PlayerStatistics;
+import com.fraz.dartlog.game.MatchRecord;
 
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.Locale;
 
 /**
@@ -28,10 +28,14 @@ public class ProfileDetailFragment extends Fragment {
 
     public static final String ARG_ITEM_NAME = "item_name";
 
+    private static final int NUMBER_OF_RECENT_GAMES = 5;
+
     /**
-     * The content this fragment is presenting.
+     * The content this fragment is presenting, null until loaded.
      */
-    private ArrayList<GameData> playerGameData;
+    private ProfileSummary summary;
+
+    private AsyncDatabase database;
 
     /**
      * Name of the profile this fragment is presenting.
@@ -50,11 +54,34 @@ public class ProfileDetailFragment extends Fragment {
         super.onCreate(savedInstanceState);
         if (getArguments().containsKey(ARG_ITEM_NAME)) {
             profileName = getArguments().getString(ARG_ITEM_NAME);
-            DartLogDatabaseHelper databaseHelper = new DartLogDatabaseHelper(getActivity());
-            playerGameData = databaseHelper.getPlayerMatchData(profileName);
+            database = new AsyncDatabase(getActivity());
+            database.read(new AsyncDatabase.Operation<ProfileSummary>() {
+                @Override
+                public ProfileSummary run(DartLogDatabaseHelper databaseHelper) {
+                    return new ProfileSummary(
+                            databaseHelper.getPlayerStatistics(profileName),
+                            databaseHelper.getPlayerMatchDataPage(profileName, null,
+                                    NUMBER_OF_RECENT_GAMES),
+                            databaseHelper.getPlayerBestMatch(profileName));
+                }
+            }, new AsyncDatabase.Callback<ProfileSummary>() {
+                @Override
+                public void onResult(ProfileSummary result) {
+                    summary = result;
+                    if (getView() != null)
+                        bindSummary(getView());
+                }
+            });
         }
     }
 
+    @Override
+    public void onDestroy() {
+        super.onDestroy();
+        if (database != null)
+            database.cancelAll();
+    }
+
     @Override
     public View onCreateView(LayoutInflater inflater, ViewGroup container,
                              Bundle savedInstanceState) {
@@ -70,61 +97,57 @@ public class ProfileDetailFragment extends Fragment {
                 (TextView) rootView.findViewById(R.id.profile_detail_summary_label);
         summaryHeader.setText(R.string.summary);
 
-        int playerWins = 0;
-        for(GameData game : playerGameData)
-        {
-            PlayerData player = game.getPlayer(profileName);
-            if(player == game.getWinner())
-                playerWins++;
-        }
+        if (summary != null)
+            bindSummary(rootView);
 
+        return rootView;
+    }
+
+    private void bindSummary(View rootView) {
+        PlayerStatistics statistics = summary.statistics;
         ((TextView) rootView.findViewById(R.id.profile_detail_games_played))
-                .setText(String.format(Locale.getDefault(), "%d", playerGameData.size()));
+                .setText(String.format(Locale.getDefault(), "%d", statistics.getMatches()));
 
         ((TextView) rootView.findViewById(R.id.profile_detail_games_won))
-                .setText(String.format(Locale.getDefault(), "%d", playerWins));
+                .setText(String.format(Locale.getDefault(), "%d", statistics.getWins()));
 
 
         RecyclerView recyclerView =
                 (RecyclerView) rootView.findViewById(R.id.recent_games_list);
         assert recyclerView != null;
         RecentGamesRecyclerViewAdapter recyclerViewAdapter =
-                new ProfileDetailFragment.RecentGamesRecyclerViewAdapter(playerGameData,
-                        getBestGame(playerGameData));
+                new ProfileDetailFragment.RecentGamesRecyclerViewAdapter(summary.recentGames,
+                        summary.bestGame);
         recyclerView.setAdapter(recyclerViewAdapter);
-
-        return rootView;
     }
 
-    private GameData getBestGame(ArrayList<GameData> playerGameData) {
-        if (playerGameData.isEmpty())
-            return null;
-
-        GameData currentBestGame = null;
-        int scores = Integer.MAX_VALUE;
-        for (GameData gameData : playerGameData) {
-            if(gameData.getGameType().equals("x01"))
-                if (gameData.getWinner().getPlayerName().equals(profileName) &&
-                    gameData.getPlayer(profileName).getScoreHistory().size() < scores) {
-                        currentBestGame = gameData;
-                }
+    private static class ProfileSummary {
+        /** Summary of all games of the player. */
+        final PlayerStatistics statistics;
+        /** The most recent games of the player, newest first. */
+        final ArrayList<MatchRecord> recentGames;
+        /** The x01 game the player won in the fewest turns, or null. */
+        final MatchRecord bestGame;
+
+        ProfileSummary(PlayerStatistics statistics, ArrayList<MatchRecord> recentGames,
+                       MatchRecord bestGame) {
+            this.statistics = statistics;
+            this.recentGames = recentGames;
+            this.bestGame = bestGame;
         }
-        return currentBestGame;
     }
 
     public class RecentGamesRecyclerViewAdapter
             extends RecyclerView.Adapter<RecyclerView.ViewHolder> {
 
-        private static final int NUMBER_OF_GAMES = 5;
         private static final int TYPE_HEADER = 0;
         private static final int TYPE_ITEM = 1;
-        private final ArrayList<GameData> gameData;
-        private GameData bestGame;
+        private final ArrayList<MatchRecord> gameData;
+        private MatchRecord bestGame;
 
-        RecentGamesRecyclerViewAdapter(ArrayList<GameData> gameData, GameData bestGame) {
+        RecentGamesRecyclerViewAdapter(ArrayList<MatchRecord> gameData, MatchRecord bestGame) {
             this.gameData = gameData;
             this.bestGame = bestGame;
-            Collections.reverse(this.gameData);
         }
 
         @Override
@@ -157,7 +180,7 @@ public class ProfileDetailFragment extends Fragment {
         }
 
         private void bindGameViewHolder(GameViewHolder holder, int position) {
-            GameData game;
+            MatchRecord game;
             if (position == 1)
                 game = bestGame;
             else if (bestGame == null)
@@ -173,7 +196,7 @@ public class ProfileDetailFragment extends Fragment {
             int extraItems = 2;
             if (bestGame != null)
                 extraItems++;
-            return Math.min(gameData.size(), NUMBER_OF_GAMES) + extraItems;
+            return gameData.size() + extraItems;
         }
 
         @Override
@@ -22,6 +22,7 @@ import android.widget.EditText;
 import android.widget.TextView;
 
 import com.fraz.dartlog.R;
+import com.fraz.dartlog.db.AsyncDatabase;
 import com.fraz.dartlog.db.DartLogDatabaseHelper;
 
 import java.util.ArrayList;
@@ -42,10 +43,13 @@ public class ProfileListActivity extends AppCompatActivity {
      */
     private boolean twoPaneMode;
 
+    private AsyncDatabase database;
+
     @Override
     protected void onCreate(Bundle savedInstanceState) {
         super.onCreate(savedInstanceState);
         setContentView(R.layout.activity_profile_list);
+        database = new AsyncDatabase(this);
 
         Toolbar toolbar = (Toolbar) findViewById(R.id.toolbar);
         setSupportActionBar(toolbar);
@@ -86,24 +90,52 @@ public class ProfileListActivity extends AppCompatActivity {
         return super.onOptionsItemSelected(item);
     }
 
+    @Override
+    protected void onDestroy() {
+        super.onDestroy();
+        database.cancelAll();
+    }
+
     private void setupRecyclerView(@NonNull RecyclerView recyclerView) {
-        recyclerView.setAdapter(new ProfilesRecyclerViewAdapter(this));
+        recyclerView.setAdapter(new ProfilesRecyclerViewAdapter());
     }
 
     public class ProfilesRecyclerViewAdapter
             extends RecyclerView.Adapter<ProfilesRecyclerViewAdapter.ViewHolder> {
 
-        private Context context;
-        private ArrayList<String> profiles;
+        private ArrayList<String> profiles = new ArrayList<>();
 
-        public ProfilesRecyclerViewAdapter(Context context) {
-            this.context = context;
+        public ProfilesRecyclerViewAdapter() {
             updateDataSetFromDatabase();
         }
 
         public void updateDataSetFromDatabase() {
-            this.profiles = new DartLogDatabaseHelper(context).getPlayers();
-            notifyDataSetChanged();
+            database.read(new AsyncDatabase.Operation<ArrayList<String>>() {
+                @Override
+                public ArrayList<String> run(DartLogDatabaseHelper databaseHelper) {
+                    return databaseHelper.getPlayers();
+                }
+            }, new AsyncDatabase.Callback<ArrayList<String>>() {
+                @Override
+                public void onResult(ArrayList<String> result) {
+                    profiles = result;
+                    notifyDataSetChanged();
+                }
+            });
+        }
+
+        public void addPlayer(final String name) {
+            database.write(new AsyncDatabase.Operation<Long>() {
+                @Override
+                public Long run(DartLogDatabaseHelper databaseHelper) {
+                    return databaseHelper.addPlayer(name);
+                }
+            }, new AsyncDatabase.Callback<Long>() {
+                @Override
+                public void onResult(Long result) {
+                    updateDataSetFromDatabase();
+                }
+            });
         }
 
         @Override
@@ -173,9 +205,7 @@ public class ProfileListActivity extends AppCompatActivity {
                             EditText profileNameEditText =
                                     (EditText) getDialog().findViewById(R.id.add_player_edit_text);
                             String name = profileNameEditText.getText().toString();
-                            DartLogDatabaseHelper dbHelper = new DartLogDatabaseHelper(getContext());
-                            dbHelper.addPlayer(name);
-                            getProfilesAdapter().updateDataSetFromDatabase();
+                            getProfilesAdapter().addPlayer(name);
                         }
                     })
                     .setNegativeButton(R.string.cancel, new DialogInterface.OnClickListener() {
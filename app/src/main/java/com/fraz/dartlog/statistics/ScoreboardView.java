@@ -0,0 +1,239 @@
+package com.fraz.dartlog.statistics;
+
+import android.content.Context;
+import android.graphics.Canvas;
+import android.graphics.Color;
+import android.graphics.Paint;
+import android.graphics.Typeface;
+import android.support.v4.content.ContextCompat;
+import android.util.AttributeSet;
+import android.util.TypedValue;
+import android.view.GestureDetector;
+import android.view.MotionEvent;
+import android.view.View;
+import android.view.ViewParent;
+import android.widget.OverScroller;
+
+import com.fraz.dartlog.R;
+import com.fraz.dartlog.Util;
+import com.fraz.dartlog.game.ScoreMatrix;
+
+/**
+ * Scoreboard of a match drawn as a single view: a column with the players next to the total
+ * score of every player after every turn. The turns scroll horizontally while the column of
+ * players stays in place.
+ *
+ * The texts of a match are measured once when the match is set, and the buffers holding the
+ * measurements are kept for the next match, so the view can be recycled between matches in a
+ * list without allocating while it is drawn.
+ */
+public class ScoreboardView extends View {
+
+    private static final String TURN_HEADER = "Turn";
+
+    private final Paint textPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+    private final Paint boldPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+    private final Paint winnerPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+    private final OverScroller scroller;
+    private final GestureDetector gestureDetector;
+
+    private final int cellWidth;
+    private final int cellPadding;
+    private final int rowHeight;
+    private final float baseline;
+
+    private ScoreMatrix scores;
+    private int headerWidth;
+
+    /** Offset of every text from the left of its cell, reused between matches. */
+    private float[] turnOffsets = new float[0];
+    private float[] scoreOffsets = new float[0];
+
+    public ScoreboardView(Context context) {
+        this(context, null);
+    }
+
+    public ScoreboardView(Context context, AttributeSet attrs) {
+        super(context, attrs);
+        float textSize = TypedValue.applyDimension(TypedValue.COMPLEX_UNIT_SP, 14,
+                getResources().getDisplayMetrics());
+        textPaint.setTextSize(textSize);
+        textPaint.setColor(Color.BLACK);
+        boldPaint.set(textPaint);
+        boldPaint.setTypeface(Typeface.DEFAULT_BOLD);
+        winnerPaint.set(textPaint);
+        winnerPaint.setColor(ContextCompat.getColor(context, R.color.accent));
+
+        cellWidth = (int) Util.pxFromDp(context, 40);
+        cellPadding = (int) Util.pxFromDp(context, 8);
+        Paint.FontMetricsInt metrics = textPaint.getFontMetricsInt();
+        rowHeight = metrics.descent - metrics.ascent + 2 * cellPadding;
+        baseline = cellPadding - metrics.ascent;
+
+        scroller = new OverScroller(context);
+        gestureDetector = new GestureDetector(context, new ScrollListener());
+        setHorizontalFadingEdgeEnabled(true);
+        setFadingEdgeLength((int) Util.pxFromDp(context, 50));
+    }
+
+    /**
+     * Show the scoreboard of a match, scrolled to its first turn.
+     */
+    public void setScores(ScoreMatrix scores) {
+        this.scores = scores;
+        scroller.forceFinished(true);
+        scrollTo(0, 0);
+
+        int players = scores.getNumberOfPlayers();
+        int turns = scores.getTurns();
+        turnOffsets = ensureCapacity(turnOffsets, turns);
+        scoreOffsets = ensureCapacity(scoreOffsets, turns * players);
+
+        float headerTextWidth = boldPaint.measureText(TURN_HEADER);
+        for (int i = 0; i < players; i++) {
+            headerTextWidth = Math.max(headerTextWidth,
+                    getPaint(i).measureText(scores.getPlayerName(i)));
+        }
+        headerWidth = Math.max(cellWidth, (int) Math.ceil(headerTextWidth) + 2 * cellPadding);
+
+        for (int turn = 0; turn < turns; turn++) {
+            turnOffsets[turn] = centerIn(cellWidth, boldPaint, scores.getTurnText(turn));
+            for (int i = 0; i < players; i++) {
+                scoreOffsets[turn * players + i] =
+                        centerIn(cellWidth, textPaint, scores.getScoreText(turn, i));
+            }
+        }
+
+        requestLayout();
+        invalidate();
+    }
+
+    private static float[] ensureCapacity(float[] buffer, int size) {
+        return buffer.length >= size ? buffer : new float[size];
+    }
+
+    private static float centerIn(int width, Paint paint, String text) {
+        return (width - paint.measureText(text)) / 2;
+    }
+
+    private Paint getPaint(int playerIdx) {
+        return playerIdx == scores.getWinnerIdx() ? winnerPaint : textPaint;
+    }
+
+    @Override
+    protected void onMeasure(int widthMeasureSpec, int heightMeasureSpec) {
+        int rows = scores == null ? 0 : scores.getNumberOfPlayers() + 1;
+        int height = rows * rowHeight + getPaddingTop() + getPaddingBottom();
+        setMeasuredDimension(
+                resolveSize(getContentWidth() + getPaddingLeft() + getPaddingRight(),
+                        widthMeasureSpec),
+                resolveSize(height, heightMeasureSpec));
+    }
+
+    private int getContentWidth() {
+        return scores == null ? 0 : headerWidth + scores.getTurns() * cellWidth;
+    }
+
+    private int getMaxScrollX() {
+        int visibleWidth = getWidth() - getPaddingLeft() - getPaddingRight();
+        return Math.max(0, getContentWidth() - visibleWidth);
+    }
+
+    @Override
+    protected void onDraw(Canvas canvas) {
+        if (scores == null)
+            return;
+
+        int players = scores.getNumberOfPlayers();
+        int left = getScrollX() + getPaddingLeft();
+        int top = getPaddingTop();
+        int right = getScrollX() + getWidth() - getPaddingRight();
+
+        // Only the turns in view are drawn.
+        int cellsLeft = left + headerWidth;
+        int firstTurn = getScrollX() / cellWidth;
+        int lastTurn = Math.min(scores.getTurns() - 1,
+                (getScrollX() + right - cellsLeft) / cellWidth);
+        canvas.save();
+        canvas.clipRect(cellsLeft, top, right, top + (players + 1) * rowHeight);
+        for (int turn = firstTurn; turn <= lastTurn; turn++) {
+            float x = getPaddingLeft() + headerWidth + turn * cellWidth;
+            canvas.drawText(scores.getTurnText(turn), x + turnOffsets[turn], top + baseline,
+                    boldPaint);
+            for (int i = 0; i < players; i++) {
+                canvas.drawText(scores.getScoreText(turn, i),
+                        x + scoreOffsets[turn * players + i],
+                        top + (i + 1) * rowHeight + baseline, textPaint);
+            }
+        }
+        canvas.restore();
+
+        canvas.drawText(TURN_HEADER, left + cellPadding, top + baseline, boldPaint);
+        for (int i = 0; i < players; i++) {
+            canvas.drawText(scores.getPlayerName(i), left + cellPadding,
+                    top + (i + 1) * rowHeight + baseline, getPaint(i));
+        }
+    }
+
+    @Override
+    public boolean onTouchEvent(MotionEvent event) {
+        return gestureDetector.onTouchEvent(event) || super.onTouchEvent(event);
+    }
+
+    @Override
+    public void computeScroll() {
+        if (scroller.computeScrollOffset()) {
+            scrollTo(scroller.getCurrX(), 0);
+            postInvalidateOnAnimation();
+        }
+    }
+
+    @Override
+    protected int computeHorizontalScrollRange() {
+        return getContentWidth();
+    }
+
+    @Override
+    protected float getLeftFadingEdgeStrength() {
+        // The column of players does not scroll and is never faded.
+        return 0;
+    }
+
+    @Override
+    protected float getRightFadingEdgeStrength() {
+        int remaining = getMaxScrollX() - getScrollX();
+        return Math.min(1, remaining / (float) getHorizontalFadingEdgeLength());
+    }
+
+    private class ScrollListener extends GestureDetector.SimpleOnGestureListener {
+
+        @Override
+        public boolean onDown(MotionEvent e) {
+            scroller.forceFinished(true);
+            return getMaxScrollX() > 0;
+        }
+
+        @Override
+        public boolean onScroll(MotionEvent e1, MotionEvent e2, float distanceX,
+                                float distanceY) {
+            if (Math.abs(distanceX) < Math.abs(distanceY))
+                return false;
+
+            // Keep a vertically scrolling parent from taking over the gesture.
+            ViewParent parent = getParent();
+            if (parent != null)
+                parent.requestDisallowInterceptTouchEvent(true);
+            int x = Math.max(0, Math.min(getMaxScrollX(), getScrollX() + (int) distanceX));
+            scrollTo(x, 0);
+            return true;
+        }
+
+        @Override
+        public boolean onFling(MotionEvent e1, MotionEvent e2, float velocityX,
+                               float velocityY) {
+            scroller.fling(getScrollX(), 0, (int) -velocityX, 0, 0, getMaxScrollX(), 0, 0);
+            postInvalidateOnAnimation();
+            return true;
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.fraz.dartlog.benchmark;
+
+import com.fraz.dartlog.CheckoutChart;
+import com.fraz.dartlog.CheckoutSolver;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayInputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of checkout lookups for every score a turn can start at.
+ */
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+@State(Scope.Thread)
+public class CheckoutChartBenchmark {
+
+    private static final int MAX_LOOKUP_SCORE = 501;
+
+    private CheckoutChart chart;
+
+    @Setup
+    public void setUp() {
+        chart = new CheckoutChart(new ByteArrayInputStream(new byte[0]),
+                CheckoutSolver.Rule.DOUBLE_OUT);
+    }
+
+    @Benchmark
+    public void getCheckoutText(Blackhole blackhole) {
+        for (int score = 0; score <= MAX_LOOKUP_SCORE; score++) {
+            blackhole.consume(chart.getCheckoutText(score));
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.fraz.dartlog.benchmark;
+
+import com.fraz.dartlog.game.GameCodec;
+import com.fraz.dartlog.game.Game;
+import com.fraz.dartlog.game.MatchRecord;
+import com.fraz.dartlog.game.PlayerResult;
+import com.fraz.dartlog.game.ScoreBuffer;
+import com.fraz.dartlog.game.x01.X01;
+import com.fraz.dartlog.game.x01.X01PlayerData;
+import com.fraz.dartlog.game.x01.X01ScoreManager;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of writing and reading a game in the compact form of {@link GameCodec}, compared
+ * to Java serialization, and of writing and reading the record of a stored match.
+ */
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+@State(Scope.Thread)
+public class GameCodecBenchmark {
+
+    @Param({"2", "8"})
+    public int players;
+
+    @Param({"10", "1000"})
+    public int turns;
+
+    private X01 game;
+    private MatchRecord match;
+    private byte[] encoded;
+    private byte[] serialized;
+    private byte[] encodedMatch;
+
+    @Setup
+    public void setUp() throws IOException {
+        int x = Histories.unfinishedX(turns);
+        ScoreBuffer[] scores = new ScoreBuffer[players];
+        ArrayList<X01PlayerData> playerData = new ArrayList<>(players);
+        ArrayList<PlayerResult> results = new ArrayList<>(players);
+        for (int i = 0; i < players; i++) {
+            scores[i] = Histories.scores(turns, i);
+            playerData.add(new X01PlayerData("Player " + i, new X01ScoreManager(x)));
+            results.add(PlayerResult.x01("Player " + i, x, scores[i],
+                    Histories.noDoubleOutAttempts(turns)));
+        }
+        game = new X01(playerData);
+        for (int turn = 0; turn < turns; turn++) {
+            for (int i = 0; i < players; i++) {
+                game.submitScore(scores[i].get(turn));
+            }
+        }
+        match = new MatchRecord(1, "x01", System.currentTimeMillis(), results, -1, x, -1);
+
+        encoded = GameCodec.encode(game);
+        serialized = serialize();
+        encodedMatch = GameCodec.encode(match);
+    }
+
+    @Benchmark
+    public byte[] encode() {
+        return GameCodec.encode(game);
+    }
+
+    @Benchmark
+    public Game decode() throws IOException {
+        return GameCodec.decodeGame(encoded);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(game);
+        }
+        return bytes.toByteArray();
+    }
+
+    @Benchmark
+    public Game deserialize() throws IOException, ClassNotFoundException {
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(serialized))) {
+            return (Game) in.readObject();
+        }
+    }
+
+    @Benchmark
+    public byte[] encodeMatchRecord() {
+        return GameCodec.encode(match);
+    }
+
+    @Benchmark
+    public MatchRecord decodeMatchRecord() throws IOException {
+        return GameCodec.decodeMatchRecord(encodedMatch);
+    }
+}
@@ -0,0 +1,47 @@
+package com.fraz.dartlog.benchmark;
+
+import com.fraz.dartlog.game.ScoreBuffer;
+
+import java.util.Random;
+
+/**
+ * Deterministic score histories for the benchmarks.
+ */
+final class Histories {
+
+    private static final long SEED = 301;
+
+    private Histories() {
+    }
+
+    /**
+     * @return Random scores from 0 to 180, the same for every call with the same arguments.
+     */
+    static ScoreBuffer scores(int turns, int player) {
+        Random random = new Random(SEED + player);
+        ScoreBuffer scores = new ScoreBuffer();
+        for (int i = 0; i < turns; i++) {
+            scores.add(random.nextInt(181));
+        }
+        return scores;
+    }
+
+    /**
+     * @return The double out attempts of a history of the given length, none of which are
+     * attempts.
+     */
+    static ScoreBuffer noDoubleOutAttempts(int turns) {
+        ScoreBuffer attempts = new ScoreBuffer();
+        for (int i = 0; i < turns; i++) {
+            attempts.add(0);
+        }
+        return attempts;
+    }
+
+    /**
+     * @return The 'X' of an x01 game that is not finished by the given number of turns.
+     */
+    static int unfinishedX(int turns) {
+        return turns * 2 + 1;
+    }
+}
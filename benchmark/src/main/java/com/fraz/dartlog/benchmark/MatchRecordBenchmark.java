@@ -0,0 +1,77 @@
+package com.fraz.dartlog.benchmark;
+
+import com.fraz.dartlog.game.MatchRecord;
+import com.fraz.dartlog.game.PlayerResult;
+import com.fraz.dartlog.game.ScoreBuffer;
+import com.fraz.dartlog.game.x01.X01PlayerData;
+import com.fraz.dartlog.game.x01.X01ScoreManager;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of building the record of a stored x01 match the way the database helper does,
+ * compared to replaying its scores through score managers, for different numbers of players
+ * and turns.
+ */
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+@State(Scope.Thread)
+public class MatchRecordBenchmark {
+
+    @Param({"1", "2", "4", "8"})
+    public int players;
+
+    @Param({"10", "1000", "100000"})
+    public int turns;
+
+    private ScoreBuffer[] scores;
+    private ScoreBuffer doubleOutAttempts;
+    private long date;
+
+    @Setup
+    public void setUp() {
+        scores = new ScoreBuffer[players];
+        for (int i = 0; i < players; i++) {
+            scores[i] = Histories.scores(turns, i);
+        }
+        doubleOutAttempts = Histories.noDoubleOutAttempts(turns);
+        date = System.currentTimeMillis();
+    }
+
+    @Benchmark
+    public MatchRecord record() {
+        int x = Histories.unfinishedX(turns);
+        ArrayList<PlayerResult> results = new ArrayList<>(players);
+        for (int i = 0; i < players; i++) {
+            results.add(PlayerResult.x01("Player " + i, x, scores[i], doubleOutAttempts));
+        }
+        return new MatchRecord(1, "x01", date, results, 0, x, 3);
+    }
+
+    @Benchmark
+    public ArrayList<X01PlayerData> replay() {
+        int x = Histories.unfinishedX(turns);
+        ArrayList<X01PlayerData> playerData = new ArrayList<>(players);
+        for (int i = 0; i < players; i++) {
+            X01ScoreManager scoreManager = new X01ScoreManager(x);
+            scoreManager.setDoubleOutAttempts(3);
+            scoreManager.applyScores(scores[i], doubleOutAttempts);
+            playerData.add(new X01PlayerData("Player " + i, scoreManager));
+        }
+        return playerData;
+    }
+}
@@ -0,0 +1,121 @@
+package com.fraz.dartlog.benchmark;
+
+import com.fraz.dartlog.CheckoutChart;
+import com.fraz.dartlog.game.ScoreBuffer;
+import com.fraz.dartlog.game.x01.X01;
+import com.fraz.dartlog.game.x01.X01PlayerData;
+import com.fraz.dartlog.game.x01.X01ScoreManager;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of playing rounds of an x01 game and of replaying stored histories, for games
+ * of different numbers of players and histories of different lengths.
+ */
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+@State(Scope.Thread)
+public class ScoreManagerBenchmark {
+
+    @Param({"1", "2", "4", "8"})
+    public int players;
+
+    @Param({"10", "1000", "100000"})
+    public int turns;
+
+    private ScoreBuffer[] scores;
+    private ScoreBuffer doubleOutAttempts;
+    private X01 game;
+
+    @Setup
+    public void setUp() {
+        // Empty charts, so that the checkouts are worked out by the solver.
+        CheckoutChart.load(new ByteArrayInputStream(new byte[0]),
+                new ByteArrayInputStream(new byte[0]));
+
+        int x = Histories.unfinishedX(turns);
+        scores = new ScoreBuffer[players];
+        doubleOutAttempts = Histories.noDoubleOutAttempts(turns);
+        ArrayList<X01PlayerData> playerData = new ArrayList<>(players);
+        for (int i = 0; i < players; i++) {
+            scores[i] = Histories.scores(turns, i);
+            X01ScoreManager scoreManager = new X01ScoreManager(x);
+            scoreManager.setDoubleOutAttempts(3);
+            playerData.add(new X01PlayerData("Player " + i, scoreManager));
+        }
+        game = new X01(playerData);
+        for (int turn = 0; turn < turns; turn++) {
+            for (int i = 0; i < players; i++) {
+                game.submitScore(scores[i].get(turn));
+            }
+        }
+    }
+
+    /**
+     * Play a round on top of the histories, binding the row of every player after their
+     * turn, and undo it, leaving the histories as they were.
+     */
+    @Benchmark
+    public void round(Blackhole blackhole) {
+        for (int i = 0; i < players; i++) {
+            int playerIdx = game.getCurrentPlayerIdx();
+            game.submitScore(60);
+            bindRow(blackhole, (X01PlayerData) game.getPlayer(playerIdx));
+        }
+        for (int i = 0; i < players; i++) {
+            game.undo();
+        }
+    }
+
+    /**
+     * Bind the row of every player.
+     */
+    @Benchmark
+    public void aggregates(Blackhole blackhole) {
+        for (int i = 0; i < players; i++) {
+            bindRow(blackhole, (X01PlayerData) game.getPlayer(i));
+        }
+    }
+
+    /**
+     * Replay the history of every player into a new score manager, as when a match is read
+     * from the database.
+     */
+    @Benchmark
+    public void replay(Blackhole blackhole) {
+        for (int i = 0; i < players; i++) {
+            X01ScoreManager replayed = new X01ScoreManager(Histories.unfinishedX(turns));
+            replayed.setDoubleOutAttempts(3);
+            replayed.applyScores(scores[i], doubleOutAttempts);
+            blackhole.consume(replayed);
+        }
+    }
+
+    /**
+     * The queries made for every bind of a player row.
+     */
+    private static void bindRow(Blackhole blackhole, X01PlayerData player) {
+        blackhole.consume(player.getScore());
+        blackhole.consume(player.getAvgScore());
+        blackhole.consume(player.getMaxScore());
+        blackhole.consume(player.getCheckoutText());
+        blackhole.consume(player.getCurrentCheckoutType());
+        blackhole.consume(player.getRemainingDoubleOutAttempts());
+    }
+}
@@ -0,0 +1,120 @@
+package com.fraz.dartlog;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.util.ArrayList;
+
+/**
+ * Immutable table of checkouts indexed by the remaining score, read from a chart with one
+ * "score,checkout" line per score.
+ *
+ * The double out and single out charts are read once per process by
+ * {@link #load(InputStream, InputStream)} and shared by all players. Scores missing from
+ * their chart files are filled in by the {@link CheckoutSolver}.
+ */
+public final class CheckoutChart {
+
+    private static CheckoutChart doubleOutChart;
+    private static CheckoutChart singleOutChart;
+
+    /** The checkout of every score, null where there is no checkout. */
+    private final String[] checkouts;
+
+    public CheckoutChart(InputStream chart) {
+        checkouts = readCheckouts(chart);
+    }
+
+    /**
+     * Create a chart from a chart file, using the checkout solver for the scores that are not
+     * in the file.
+     *
+     * @param rule The checkout rule the chart file is written for.
+     */
+    public CheckoutChart(InputStream chart, CheckoutSolver.Rule rule) {
+        this(readCheckouts(chart), rule);
+    }
+
+    private CheckoutChart(String[] chart, CheckoutSolver.Rule rule) {
+        String[] solved = CheckoutSolver.getTable(rule, CheckoutSolver.MAX_DARTS);
+        checkouts = new String[Math.max(chart.length, solved.length)];
+        for (int score = 0; score < checkouts.length; score++) {
+            if (score < chart.length && chart[score] != null)
+                checkouts[score] = chart[score];
+            else if (score < solved.length)
+                checkouts[score] = solved[score];
+        }
+    }
+
+    /**
+     * Read the shared checkout charts unless they have already been read. The streams are
+     * closed in either case.
+     *
+     * @param doubleOut Chart of checkouts finishing on a double.
+     * @param singleOut Chart of checkouts finishing on any field.
+     */
+    public static synchronized void load(InputStream doubleOut, InputStream singleOut) {
+        try (InputStream doubleOutStream = doubleOut; InputStream singleOutStream = singleOut) {
+            if (doubleOutChart == null)
+                doubleOutChart = new CheckoutChart(doubleOutStream, CheckoutSolver.Rule.DOUBLE_OUT);
+            if (singleOutChart == null)
+                singleOutChart = new CheckoutChart(singleOutStream, CheckoutSolver.Rule.SINGLE_OUT);
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * @return The shared chart of checkouts finishing on a double.
+     * @throws IllegalStateException If the charts have not been loaded.
+     */
+    public static synchronized CheckoutChart getDoubleOutChart() {
+        if (doubleOutChart == null)
+            throw new IllegalStateException("Checkout charts not loaded");
+        return doubleOutChart;
+    }
+
+    /**
+     * @return The shared chart of checkouts finishing on any field.
+     * @throws IllegalStateException If the charts have not been loaded.
+     */
+    public static synchronized CheckoutChart getSingleOutChart() {
+        if (singleOutChart == null)
+            throw new IllegalStateException("Checkout charts not loaded");
+        return singleOutChart;
+    }
+
+    public boolean checkoutAvailable(int score) {
+        return score >= 0 && score < checkouts.length && checkouts[score] != null;
+    }
+
+    public String getCheckoutText(int score) {
+        if (checkoutAvailable(score))
+            return checkouts[score];
+        else
+            return "No checkout";
+    }
+
+    private static String[] readCheckouts(InputStream chart) {
+        ArrayList<String[]> lines = new ArrayList<>();
+        int maxScore = -1;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(chart))) {
+            String line = reader.readLine();
+            while (line != null) {
+                String[] checkout = line.split(",");
+                lines.add(checkout);
+                maxScore = Math.max(maxScore, Integer.parseInt(checkout[0]));
+                line = reader.readLine();
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+
+        String[] checkouts = new String[maxScore + 1];
+        for (String[] checkout : lines) {
+            checkouts[Integer.parseInt(checkout[0])] = checkout[1];
+        }
+        return checkouts;
+    }
+}
@@ -0,0 +1,141 @@
+package com.fraz.dartlog;
+
+import java.util.ArrayList;
+
+/**
+ * Works out checkouts by enumerating the dart combinations allowed by a checkout rule.
+ *
+ * A table of checkouts is computed the first time it is asked for and kept for the lifetime
+ * of the process. Checkouts use as few darts as possible and, among those, the highest
+ * scoring first dart, written the same way as the checkout chart files, e.g. "T20 T20 Bull".
+ */
+public final class CheckoutSolver {
+
+    /** The most darts thrown in a turn. */
+    public static final int MAX_DARTS = 3;
+
+    /** The highest score of a turn. */
+    public static final int MAX_SCORE = 180;
+
+    public enum Rule {
+        /** The last dart may be any field. */
+        SINGLE_OUT,
+        /** The last dart must be a double or the bull. */
+        DOUBLE_OUT,
+        /** The last dart must be a double, a triple or the bull. */
+        MASTER_OUT
+    }
+
+    private static final Dart[] DARTS = createDarts();
+
+    /** Computed tables, indexed by rule and number of darts less one. */
+    private static final String[][][] tables = new String[Rule.values().length][MAX_DARTS][];
+
+    private CheckoutSolver() {
+    }
+
+    /**
+     * Get the checkout of a score.
+     *
+     * @param rule  The rule the last dart must satisfy.
+     * @param darts The number of darts left, 1 to {@link #MAX_DARTS}.
+     * @param score The remaining score.
+     * @return The checkout, or null if the score can not be checked out.
+     */
+    public static String getCheckout(Rule rule, int darts, int score) {
+        String[] table = getTable(rule, darts);
+        return score >= 0 && score < table.length ? table[score] : null;
+    }
+
+    /**
+     * Get the checkouts of all scores. The returned array is shared and must not be modified.
+     *
+     * @param rule  The rule the last dart must satisfy.
+     * @param darts The number of darts left, 1 to {@link #MAX_DARTS}.
+     * @return The checkout of every score from 0 to {@link #MAX_SCORE}, null where there is
+     * no checkout.
+     */
+    static synchronized String[] getTable(Rule rule, int darts) {
+        if (darts < 1 || darts > MAX_DARTS)
+            throw new IllegalArgumentException("Darts must be 1 to " + MAX_DARTS);
+
+        String[] table = tables[rule.ordinal()][darts - 1];
+        if (table == null) {
+            table = darts == 1 ? solveLastDart(rule) : solve(getTable(rule, darts - 1));
+            tables[rule.ordinal()][darts - 1] = table;
+        }
+        return table;
+    }
+
+    private static String[] solveLastDart(Rule rule) {
+        String[] table = new String[MAX_SCORE + 1];
+        for (Dart dart : DARTS) {
+            if (dart.isFinish(rule) && table[dart.score] == null)
+                table[dart.score] = dart.name;
+        }
+        return table;
+    }
+
+    /**
+     * Extend the checkouts of one dart less with a first dart.
+     */
+    private static String[] solve(String[] fewerDarts) {
+        String[] table = fewerDarts.clone();
+        for (Dart dart : DARTS) {
+            for (int remaining = 0; remaining + dart.score <= MAX_SCORE; remaining++) {
+                int score = remaining + dart.score;
+                if (fewerDarts[remaining] != null && table[score] == null)
+                    table[score] = dart.name + " " + fewerDarts[remaining];
+            }
+        }
+        return table;
+    }
+
+    /**
+     * @return All fields of the board, highest score first. Of fields with equal score, the
+     * larger field comes first: singles before doubles and doubles before triples.
+     */
+    private static Dart[] createDarts() {
+        ArrayList<Dart> darts = new ArrayList<>();
+        for (int score = 60; score > 0; score--) {
+            if (score <= 20)
+                darts.add(new Dart(String.valueOf(score), score, Dart.SINGLE));
+            if (score == 25)
+                darts.add(new Dart("25", score, Dart.SINGLE));
+            if (score % 2 == 0 && score <= 40)
+                darts.add(new Dart("D" + score / 2, score, Dart.DOUBLE));
+            if (score == 50)
+                darts.add(new Dart("Bull", score, Dart.DOUBLE));
+            if (score % 3 == 0)
+                darts.add(new Dart("T" + score / 3, score, Dart.TRIPLE));
+        }
+        return darts.toArray(new Dart[darts.size()]);
+    }
+
+    private static final class Dart {
+        static final int SINGLE = 1;
+        static final int DOUBLE = 2;
+        static final int TRIPLE = 3;
+
+        final String name;
+        final int score;
+        final int multiplier;
+
+        Dart(String name, int score, int multiplier) {
+            this.name = name;
+            this.score = score;
+            this.multiplier = multiplier;
+        }
+
+        boolean isFinish(Rule rule) {
+            switch (rule) {
+                case DOUBLE_OUT:
+                    return multiplier == DOUBLE;
+                case MASTER_OUT:
+                    return multiplier != SINGLE;
+                default:
+                    return true;
+            }
+        }
+    }
+}
@@ -1,7 +1,5 @@
 package com.fraz.dartlog.game;
 
-import java.util.LinkedList;
-
 /**
  * Created by CarlR on 09/10/2016.
  */
@@ -12,7 +10,7 @@ public class AdditionScoreManager extends ScoreManager {
         score = 0;
     }
 
-    public AdditionScoreManager(LinkedList<Integer> scoreHistory)
+    public AdditionScoreManager(ScoreHistory scoreHistory)
     {
         applyScores(scoreHistory);
     }
@@ -27,7 +25,7 @@ public class AdditionScoreManager extends ScoreManager {
     public void undoScore() {
         if (!totalScoreHistory.isEmpty()) {
             totalScoreHistory.removeLast();
-            scoreHistory.removeLast();
+            removeLastScore();
 
             if (totalScoreHistory.isEmpty())
                 score = 0;
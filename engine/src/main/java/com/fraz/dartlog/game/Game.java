@@ -1,18 +1,15 @@
 package com.fraz.dartlog.game;
 
-import android.app.Activity;
-import android.view.Gravity;
-import android.widget.Toast;
-
+import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.LinkedList;
 
-public abstract class Game {
+public abstract class Game implements Serializable {
 
 
     private LinkedList<Integer> playOrder = new LinkedList<>();
-    protected Activity context;
+    private transient ArrayList<GameListener> listeners;
     protected int currentPlayerIdx;
 
     private PlayerData winner = null;
@@ -20,12 +17,7 @@ public abstract class Game {
     private Calendar date;
     private ArrayList<? extends PlayerData> players;
 
-    /** Needed for serialization of subclasses. */
-    protected Game() {
-    }
-
-    public Game(Activity context, ArrayList<? extends PlayerData> players) {
-        this.context = context;
+    public Game(ArrayList<? extends PlayerData> players) {
         this.players = players;
         this.startingPlayerIdx = 0;
         this.date = Calendar.getInstance();
@@ -34,15 +26,23 @@ public abstract class Game {
 
     public boolean submitScore(int newScore) {
         playOrder.add(currentPlayerIdx);
-        return getPlayer(currentPlayerIdx).submitScore(newScore);
+        boolean scored = getPlayer(currentPlayerIdx).submitScore(newScore);
+        for (GameListener listener : getListeners()) {
+            listener.onScoreSubmitted(currentPlayerIdx, newScore);
+        }
+        return scored;
     }
 
     public void undo() {
         if (!playOrder.isEmpty()) {
+            int previousPlayerIdx = currentPlayerIdx;
             int lastPlayerIdx = playOrder.removeLast();
             getPlayer(lastPlayerIdx).undoScore();
             currentPlayerIdx = lastPlayerIdx;
             setWinner(null);
+            for (GameListener listener : getListeners()) {
+                listener.onUndo(lastPlayerIdx, previousPlayerIdx);
+            }
         }
     }
 
@@ -72,20 +72,43 @@ public abstract class Game {
         }
     }
 
-    protected void showWinnerToast() {
-        CharSequence text = String.format("Winner: %s!",
-                getWinner().getPlayerName());
-        showToast(text);
+    /**
+     * Add a listener notified of game events, in the order the listeners were added.
+     * Listeners are not serialized with the game and must be added again to a deserialized
+     * game.
+     */
+    public void addListener(GameListener listener) {
+        getListeners().add(listener);
     }
 
-    protected void showToast(CharSequence text) {
-        Toast toast = Toast.makeText(context, text, Toast.LENGTH_SHORT);
-        toast.setGravity(Gravity.CENTER, 0, 0);
-        toast.show();
+    public void removeListener(GameListener listener) {
+        getListeners().remove(listener);
+    }
+
+    private ArrayList<GameListener> getListeners() {
+        if (listeners == null)
+            listeners = new ArrayList<>();
+        return listeners;
+    }
+
+    protected void notifyBust(PlayerData player) {
+        for (GameListener listener : getListeners()) {
+            listener.onBust(player);
+        }
+    }
+
+    protected void notifyLegWon() {
+        for (GameListener listener : getListeners()) {
+            listener.onLegWon(getWinner());
+        }
     }
 
     protected void nextPlayer() {
+        int previousPlayerIdx = currentPlayerIdx;
         currentPlayerIdx = (currentPlayerIdx + 1) % getNumberOfPlayers();
+        for (GameListener listener : getListeners()) {
+            listener.onTurnAdvanced(previousPlayerIdx, currentPlayerIdx);
+        }
     }
 
     public LinkedList<Integer> getPlayOrder() {
@@ -94,8 +117,14 @@ public abstract class Game {
 
     public abstract int getNextStartingPlayer();
 
+    /**
+     * Set the player starting the leg. If no score has been submitted in the leg yet, the
+     * starting player is also the current player.
+     */
     public void setStartingPlayerIdx(int startingPlayerIdx) {
         this.startingPlayerIdx = startingPlayerIdx;
+        if (playOrder.isEmpty())
+            currentPlayerIdx = startingPlayerIdx;
     }
 
     public void setWinner(PlayerData winner) {
@@ -110,6 +139,10 @@ public abstract class Game {
         return date;
     }
 
+    void setDate(Calendar date) {
+        this.date = date;
+    }
+
     public int getStartingPlayerIdx() {
         return startingPlayerIdx;
     }
@@ -0,0 +1,302 @@
+package com.fraz.dartlog.game;
+
+import com.fraz.dartlog.game.random.Random;
+import com.fraz.dartlog.game.x01.X01;
+import com.fraz.dartlog.game.x01.X01PlayerData;
+import com.fraz.dartlog.game.x01.X01ScoreManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Calendar;
+
+/**
+ * Compact binary form of games and match records, for passing them between components and
+ * keeping them over configuration changes.
+ *
+ * Only what cannot be worked out again is written: the settings, the players, the date and
+ * the scores as shorts. A game is read back by replaying its scores, and a match record by
+ * summing up the scores of every player, the same way matches are read from the database.
+ *
+ * The player count, player indexes and random fields are written as bytes, and the x01
+ * settings, the number of random turns and the scores as shorts. A game or match record with
+ * a value out of range for its type is rejected with an {@link IllegalArgumentException}
+ * rather than written cut short.
+ */
+public final class GameCodec {
+
+    private static final byte TYPE_X01 = 1;
+    private static final byte TYPE_RANDOM = 2;
+
+    private GameCodec() {
+    }
+
+    /**
+     * @param game An {@link X01} or {@link Random} game.
+     * @return The game in binary form.
+     */
+    public static byte[] encode(Game game) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try {
+            DataOutputStream out = new DataOutputStream(bytes);
+            writeHeader(out, game);
+            out.writeInt(game.getPlayOrder().size());
+            writeTurns(out, game);
+        } catch (IOException e) {
+            // Not thrown when writing to memory.
+            throw new IllegalStateException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * @param bytes A game in the form given by {@link #encode(Game)}.
+     * @return The game as it was when it was encoded.
+     */
+    public static Game decodeGame(byte[] bytes) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes));
+        Game game = readHeader(in);
+        int turns = in.readInt();
+        for (int i = 0; i < turns; i++) {
+            game.submitScore(in.readShort());
+        }
+        return game;
+    }
+
+    /**
+     * @param match Record of an "x01" or "random" match.
+     * @return The match record in binary form.
+     */
+    public static byte[] encode(MatchRecord match) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try {
+            writeMatchRecord(new DataOutputStream(bytes), match);
+        } catch (IOException e) {
+            // Not thrown when writing to memory.
+            throw new IllegalStateException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * @param bytes A match record in the form given by {@link #encode(MatchRecord)}.
+     * @return The match record as it was when it was encoded.
+     */
+    public static MatchRecord decodeMatchRecord(byte[] bytes) throws IOException {
+        return readMatchRecord(new DataInputStream(new ByteArrayInputStream(bytes)));
+    }
+
+    /**
+     * Write the type, settings, players and date of a game, but none of its scores.
+     */
+    static void writeHeader(DataOutput out, Game game) throws IOException {
+        if (game instanceof X01) {
+            out.writeByte(TYPE_X01);
+        } else if (game instanceof Random) {
+            out.writeByte(TYPE_RANDOM);
+        } else {
+            throw new IllegalArgumentException("Unsupported game type");
+        }
+        out.writeLong(game.getDate().getTimeInMillis());
+        writeByte(out, game.getStartingPlayerIdx(), "Starting player");
+        writeByte(out, game.getNumberOfPlayers(), "Number of players");
+        for (PlayerData player : game.getPlayers()) {
+            out.writeUTF(player.getPlayerName());
+        }
+
+        if (game instanceof X01) {
+            X01 x01 = (X01) game;
+            writeShort(out, x01.getX(), "X");
+            writeShort(out, x01.getDoubleOutAttempts(), "Double out attempts");
+        } else {
+            Random random = (Random) game;
+            writeShort(out, random.getNrOfTurns(), "Number of turns");
+            for (int field : random.getFields()) {
+                writeByte(out, field, "Field");
+            }
+        }
+    }
+
+    /**
+     * Read what {@link #writeHeader(DataOutput, Game)} wrote.
+     *
+     * @return A game in the state it was before its first score.
+     */
+    static Game readHeader(DataInput in) throws IOException {
+        byte type = in.readByte();
+        checkType(type);
+        long date = in.readLong();
+        int startingPlayerIdx = in.readByte();
+        String[] names = new String[in.readByte()];
+        for (int i = 0; i < names.length; i++) {
+            names[i] = in.readUTF();
+        }
+
+        Game game;
+        if (type == TYPE_X01) {
+            int x = in.readShort();
+            int doubleOutAttempts = in.readShort();
+            ArrayList<X01PlayerData> players = new ArrayList<>(names.length);
+            for (String name : names) {
+                X01ScoreManager scoreManager = createX01ScoreManager(x, doubleOutAttempts);
+                players.add(new X01PlayerData(name, scoreManager));
+            }
+            game = new X01(players);
+        } else {
+            int nrOfTurns = in.readShort();
+            ArrayList<Integer> fields = new ArrayList<>(nrOfTurns);
+            for (int i = 0; i < nrOfTurns; i++) {
+                fields.add((int) in.readByte());
+            }
+            ArrayList<PlayerData> players = new ArrayList<>(names.length);
+            for (String name : names) {
+                players.add(new PlayerData(name, new AdditionScoreManager()));
+            }
+            game = new Random(players, fields);
+        }
+        game.setDate(toCalendar(date));
+        game.setStartingPlayerIdx(startingPlayerIdx);
+        return game;
+    }
+
+    /**
+     * Write the scores of the current leg of the game as shorts, in the order they were
+     * submitted.
+     */
+    static void writeTurns(DataOutput out, Game game) throws IOException {
+        int[] playerTurns = new int[game.getNumberOfPlayers()];
+        for (Integer i : game.getPlayOrder()) {
+            writeShort(out, game.getPlayer(i).getScoreHistory().get(playerTurns[i]++), "Score");
+        }
+    }
+
+    /**
+     * @return The game type name of a type written by {@link #writeHeader(DataOutput, Game)}.
+     */
+    static String getGameType(byte type) throws IOException {
+        checkType(type);
+        return type == TYPE_X01 ? "x01" : "random";
+    }
+
+    private static void checkType(byte type) throws IOException {
+        if (type != TYPE_X01 && type != TYPE_RANDOM)
+            throw new IOException("Unknown game type " + type);
+    }
+
+    private static void writeMatchRecord(DataOutput out, MatchRecord match)
+            throws IOException {
+        boolean x01 = match.getGameType().equals("x01");
+        if (!x01 && !match.getGameType().equals("random"))
+            throw new IllegalArgumentException("Unsupported game type");
+        out.writeByte(x01 ? TYPE_X01 : TYPE_RANDOM);
+        out.writeLong(match.getMatchId());
+        out.writeLong(match.getDate());
+        writeByte(out, match.getWinnerIdx(), "Winner");
+        writeByte(out, match.getNumberOfPlayers(), "Number of players");
+        if (x01) {
+            writeShort(out, match.getX(), "X");
+            writeShort(out, match.getDoubleOutAttempts(), "Double out attempts");
+        }
+
+        for (int i = 0; i < match.getNumberOfPlayers(); i++) {
+            PlayerResult player = match.getPlayer(i);
+            out.writeUTF(player.getPlayerName());
+            out.writeInt(player.getTurns());
+            for (int turn = 0; turn < player.getTurns(); turn++) {
+                writeShort(out, player.getScore(turn), "Score");
+            }
+            if (x01)
+                writeFlags(out, player);
+        }
+    }
+
+    private static MatchRecord readMatchRecord(DataInput in) throws IOException {
+        byte type = in.readByte();
+        checkType(type);
+        long matchId = in.readLong();
+        long date = in.readLong();
+        int winnerIdx = in.readByte();
+        int numberOfPlayers = in.readByte();
+        int x = 0;
+        int doubleOutAttempts = 0;
+        if (type == TYPE_X01) {
+            x = in.readShort();
+            doubleOutAttempts = in.readShort();
+        }
+
+        ArrayList<PlayerResult> players = new ArrayList<>(numberOfPlayers);
+        for (int i = 0; i < numberOfPlayers; i++) {
+            String name = in.readUTF();
+            ScoreBuffer scores = readScores(in);
+            if (type == TYPE_X01)
+                players.add(PlayerResult.x01(name, x, scores, readFlags(in, scores.size())));
+            else
+                players.add(PlayerResult.random(name, scores));
+        }
+        return new MatchRecord(matchId, getGameType(type), date, players, winnerIdx, x,
+                doubleOutAttempts);
+    }
+
+    private static ScoreBuffer readScores(DataInput in) throws IOException {
+        int size = in.readInt();
+        ScoreBuffer scores = new ScoreBuffer();
+        for (int i = 0; i < size; i++) {
+            scores.add(in.readShort());
+        }
+        return scores;
+    }
+
+    /**
+     * Write the double out attempts of a player as one bit per turn.
+     */
+    private static void writeFlags(DataOutput out, PlayerResult player) throws IOException {
+        for (int i = 0; i < player.getTurns(); i += 8) {
+            int bits = 0;
+            for (int bit = 0; bit < 8 && i + bit < player.getTurns(); bit++) {
+                if (player.isDoubleOutAttempt(i + bit))
+                    bits |= 1 << bit;
+            }
+            out.writeByte(bits);
+        }
+    }
+
+    private static ScoreBuffer readFlags(DataInput in, int size) throws IOException {
+        ScoreBuffer flags = new ScoreBuffer();
+        for (int i = 0; i < size; i += 8) {
+            int bits = in.readUnsignedByte();
+            for (int bit = 0; bit < 8 && i + bit < size; bit++) {
+                flags.add((bits >> bit) & 1);
+            }
+        }
+        return flags;
+    }
+
+    private static void writeByte(DataOutput out, int value, String name) throws IOException {
+        if (value < Byte.MIN_VALUE || value > Byte.MAX_VALUE)
+            throw new IllegalArgumentException(name + " out of range: " + value);
+        out.writeByte(value);
+    }
+
+    private static void writeShort(DataOutput out, int value, String name) throws IOException {
+        if (value < Short.MIN_VALUE || value > Short.MAX_VALUE)
+            throw new IllegalArgumentException(name + " out of range: " + value);
+        out.writeShort(value);
+    }
+
+    private static X01ScoreManager createX01ScoreManager(int x, int doubleOutAttempts) {
+        X01ScoreManager scoreManager = new X01ScoreManager(x);
+        scoreManager.setDoubleOutAttempts(doubleOutAttempts);
+        return scoreManager;
+    }
+
+    private static Calendar toCalendar(long millis) {
+        Calendar calendar = Calendar.getInstance();
+        calendar.setTimeInMillis(millis);
+        return calendar;
+    }
+}
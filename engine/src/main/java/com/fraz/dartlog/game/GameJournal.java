@@ -0,0 +1,229 @@
+package com.fraz.dartlog.game;
+
+import com.fraz.dartlog.game.random.Random;
+import com.fraz.dartlog.game.x01.X01;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Append-only journal of the leg being played, from which the leg can be resumed if the
+ * process dies.
+ *
+ * The journal starts with the settings and players of the game, followed by one two byte
+ * record for every submitted score or undo, and for the request made once the leg is finished.
+ * A record is written to the file as soon as it is made, so a journal is never more than the
+ * last turn behind the game. A record cut short by the process dying while writing it is
+ * ignored when the journal is read.
+ */
+public final class GameJournal implements Closeable {
+
+    /** Name of the journal file of the app. */
+    public static final String FILE_NAME = "game.journal";
+
+    /** "DLJ" followed by the version of the journal format. */
+    private static final int MAGIC = 0x444c4a02;
+    private static final short UNDO = -1;
+    private static final short NEW_LEG = -2;
+    private static final short COMPLETE_MATCH = -3;
+
+    /**
+     * What the player asked for once the journaled leg was finished. The leg is saved before
+     * the request is carried out, so a journal ending with a request holds a leg that may or
+     * may not have been saved.
+     */
+    public enum Request {
+        NONE, NEW_LEG, COMPLETE_MATCH
+    }
+
+    /**
+     * A replayed journal: the journaled game and the request, if any, made after its last
+     * turn.
+     */
+    public static final class Replay {
+        private final Game game;
+        private final Request request;
+
+        Replay(Game game, Request request) {
+            this.game = game;
+            this.request = request;
+        }
+
+        public Game getGame() {
+            return game;
+        }
+
+        public Request getRequest() {
+            return request;
+        }
+    }
+
+    private final File file;
+    private final byte[] record = new byte[2];
+    private OutputStream output;
+
+    public GameJournal(File file) {
+        this.file = file;
+    }
+
+    /**
+     * Start a new journal for the game, replacing any previous journal. Scores already
+     * submitted in the current leg of the game are part of the new journal.
+     *
+     * @param game The game to journal. Only {@link X01} and {@link Random} games are supported.
+     */
+    public void start(Game game) throws IOException {
+        close();
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream data = new DataOutputStream(bytes);
+        data.writeInt(MAGIC);
+        GameCodec.writeHeader(data, game);
+        GameCodec.writeTurns(data, game);
+
+        // Write the new journal aside so that a crash never leaves a half written header.
+        File started = new File(file.getPath() + ".new");
+        try (OutputStream out = new FileOutputStream(started)) {
+            bytes.writeTo(out);
+        }
+        if (!started.renameTo(file))
+            throw new IOException("Failed to replace " + file);
+        output = new FileOutputStream(file, true);
+    }
+
+    /**
+     * Record a score submitted to the journaled game.
+     */
+    public void submitScore(int score) throws IOException {
+        write((short) score);
+    }
+
+    /**
+     * Record an undo of the journaled game.
+     */
+    public void undo() throws IOException {
+        write(UNDO);
+    }
+
+    /**
+     * Record a request made once the leg of the journaled game is finished, before the leg is
+     * saved.
+     */
+    public void request(Request request) throws IOException {
+        switch (request) {
+            case NEW_LEG:
+                write(NEW_LEG);
+                break;
+            case COMPLETE_MATCH:
+                write(COMPLETE_MATCH);
+                break;
+            default:
+                throw new IllegalArgumentException("Nothing to record for " + request);
+        }
+    }
+
+    private void write(short value) throws IOException {
+        if (output == null)
+            throw new IllegalStateException("Journal not started");
+        record[0] = (byte) (value >> 8);
+        record[1] = (byte) value;
+        output.write(record);
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (output != null) {
+            output.close();
+            output = null;
+        }
+    }
+
+    /**
+     * Close and remove the journal, once the journaled game does not need to be resumed.
+     */
+    public void delete() throws IOException {
+        close();
+        if (file.exists() && !file.delete())
+            throw new IOException("Failed to delete " + file);
+    }
+
+    /**
+     * Get the type of the game in a journal without replaying it.
+     *
+     * @return "x01" or "random", or null if there is no journal.
+     */
+    public static String readGameType(File file) throws IOException {
+        try (DataInputStream in = open(file)) {
+            if (in == null)
+                return null;
+            checkMagic(in);
+            return GameCodec.getGameType(in.readByte());
+        }
+    }
+
+    /**
+     * Replay a journal, ignoring any request made after its last turn.
+     *
+     * @return The journaled game as it was after its last record, or null if there is no
+     * journal.
+     */
+    public static Game read(File file) throws IOException {
+        Replay replay = replay(file);
+        return replay == null ? null : replay.getGame();
+    }
+
+    /**
+     * Replay a journal.
+     *
+     * @return The journaled game as it was after its last turn and the request made after
+     * that turn, or null if there is no journal.
+     */
+    public static Replay replay(File file) throws IOException {
+        try (DataInputStream in = open(file)) {
+            if (in == null)
+                return null;
+            checkMagic(in);
+            Game game = GameCodec.readHeader(in);
+            Request request = Request.NONE;
+            int high;
+            int low;
+            while ((high = in.read()) != -1 && (low = in.read()) != -1) {
+                short value = (short) ((high << 8) | low);
+                if (value == NEW_LEG) {
+                    request = Request.NEW_LEG;
+                } else if (value == COMPLETE_MATCH) {
+                    request = Request.COMPLETE_MATCH;
+                } else {
+                    request = Request.NONE;
+                    if (value == UNDO)
+                        game.undo();
+                    else
+                        game.submitScore(value);
+                }
+            }
+            return new Replay(game, request);
+        }
+    }
+
+    private static DataInputStream open(File file) throws IOException {
+        try {
+            return new DataInputStream(new BufferedInputStream(new FileInputStream(file)));
+        } catch (FileNotFoundException e) {
+            return null;
+        }
+    }
+
+    private static void checkMagic(DataInputStream in) throws IOException {
+        if (in.readInt() != MAGIC)
+            throw new IOException("Not a game journal");
+    }
+}
@@ -0,0 +1,44 @@
+package com.fraz.dartlog.game;
+
+/**
+ * Notified of everything that happens in a game, so that views, persistence and statistics
+ * can update only what a turn changed. Players are given by their index in the game.
+ *
+ * @see GameListenerAdapter
+ */
+public interface GameListener {
+
+    /**
+     * A player has submitted a score. Followed by {@link #onBust(PlayerData)} if the score
+     * was a bust.
+     *
+     * @param playerIdx The player who submitted the score.
+     * @param score     The submitted score, which is not what the turn scored if it was a bust.
+     */
+    void onScoreSubmitted(int playerIdx, int score);
+
+    /**
+     * The score submitted by a player was more than the player had left, or left the player
+     * without a possible checkout. The turn scored nothing.
+     */
+    void onBust(PlayerData player);
+
+    /**
+     * The turn has passed from one player to another.
+     */
+    void onTurnAdvanced(int previousPlayerIdx, int currentPlayerIdx);
+
+    /**
+     * The last submitted score has been undone, and it is the turn of the player who
+     * submitted it again. Any winner of the leg has been cleared.
+     *
+     * @param playerIdx         The player whose score was undone.
+     * @param previousPlayerIdx The player whose turn it was before the undo.
+     */
+    void onUndo(int playerIdx, int previousPlayerIdx);
+
+    /**
+     * A player has won the leg.
+     */
+    void onLegWon(PlayerData winner);
+}
@@ -0,0 +1,27 @@
+package com.fraz.dartlog.game;
+
+/**
+ * Game listener ignoring all events, for listeners only interested in some of them.
+ */
+public abstract class GameListenerAdapter implements GameListener {
+
+    @Override
+    public void onScoreSubmitted(int playerIdx, int score) {
+    }
+
+    @Override
+    public void onBust(PlayerData player) {
+    }
+
+    @Override
+    public void onTurnAdvanced(int previousPlayerIdx, int currentPlayerIdx) {
+    }
+
+    @Override
+    public void onUndo(int playerIdx, int previousPlayerIdx) {
+    }
+
+    @Override
+    public void onLegWon(PlayerData winner) {
+    }
+}
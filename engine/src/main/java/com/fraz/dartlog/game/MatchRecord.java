@@ -0,0 +1,143 @@
+package com.fraz.dartlog.game;
+
+import java.util.List;
+
+/**
+ * Immutable record of a stored match, as shown in the match history and statistics.
+ *
+ * Records are read from the database and shared between everything showing the match, so
+ * they hold the stored results only. The {@link Game} and {@link ScoreManager} classes are
+ * left to the match being played.
+ */
+public final class MatchRecord {
+
+    private final long matchId;
+    private final String gameType;
+    private final long date;
+    private final PlayerResult[] players;
+    private final int winnerIdx;
+    private final int x;
+    private final int doubleOutAttempts;
+    private volatile ScoreMatrix scoreMatrix;
+
+    /**
+     * @param matchId           The database id of the match.
+     * @param gameType          "x01" or "random".
+     * @param date              The date of the match in milliseconds since the epoch.
+     * @param players           The results of the players, in play order.
+     * @param winnerIdx         The index of the winner, or -1 if the match has no winner.
+     * @param x                 The 'X' in X01, or 0 if not an x01 match.
+     * @param doubleOutAttempts The x01 double out attempts setting, or 0 if not an x01 match.
+     */
+    public MatchRecord(long matchId, String gameType, long date, List<PlayerResult> players,
+                       int winnerIdx, int x, int doubleOutAttempts) {
+        this.matchId = matchId;
+        this.gameType = gameType;
+        this.date = date;
+        this.players = players.toArray(new PlayerResult[players.size()]);
+        this.winnerIdx = winnerIdx;
+        this.x = x;
+        this.doubleOutAttempts = doubleOutAttempts;
+    }
+
+    /**
+     * @return The database id of the match.
+     */
+    public long getMatchId() {
+        return matchId;
+    }
+
+    public String getGameType() {
+        return gameType;
+    }
+
+    /**
+     * @return The date of the match in milliseconds since the epoch.
+     */
+    public long getDate() {
+        return date;
+    }
+
+    public int getNumberOfPlayers() {
+        return players.length;
+    }
+
+    public PlayerResult getPlayer(int index) {
+        return players[index];
+    }
+
+    /**
+     * @return The result of the player with the given name, or null if the player did not
+     * play the match.
+     */
+    public PlayerResult getPlayer(String name) {
+        for (PlayerResult player : players) {
+            if (player.getPlayerName().equals(name))
+                return player;
+        }
+        return null;
+    }
+
+    public String[] getPlayerNames() {
+        String[] names = new String[players.length];
+        for (int i = 0; i < players.length; i++) {
+            names[i] = players[i].getPlayerName();
+        }
+        return names;
+    }
+
+    /**
+     * @return The index of the winner, or -1 if the match has no winner.
+     */
+    public int getWinnerIdx() {
+        return winnerIdx;
+    }
+
+    /**
+     * @return The result of the winner, or null if the match has no winner.
+     */
+    public PlayerResult getWinner() {
+        return winnerIdx == -1 ? null : players[winnerIdx];
+    }
+
+    /**
+     * @return The number of turns the match lasted: the turns of the winner, or of the player
+     * that played the most turns if the match has no winner.
+     */
+    public int getTurns() {
+        if (winnerIdx != -1)
+            return players[winnerIdx].getTurns();
+
+        int turns = 0;
+        for (PlayerResult player : players) {
+            turns = Math.max(turns, player.getTurns());
+        }
+        return turns;
+    }
+
+    /**
+     * @return The 'X' in X01, or 0 if not an x01 match.
+     */
+    public int getX() {
+        return x;
+    }
+
+    /**
+     * @return The x01 double out attempts setting, or 0 if not an x01 match.
+     */
+    public int getDoubleOutAttempts() {
+        return doubleOutAttempts;
+    }
+
+    /**
+     * @return The scoreboard of the match, built the first time it is asked for.
+     */
+    public ScoreMatrix getScoreMatrix() {
+        ScoreMatrix matrix = scoreMatrix;
+        if (matrix == null) {
+            matrix = new ScoreMatrix(this);
+            scoreMatrix = matrix;
+        }
+        return matrix;
+    }
+}
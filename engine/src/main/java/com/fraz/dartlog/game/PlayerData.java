@@ -1,7 +1,6 @@
 package com.fraz.dartlog.game;
 
 import java.io.Serializable;
-import java.util.LinkedList;
 
 public class PlayerData implements Serializable {
 
@@ -35,9 +34,17 @@ public class PlayerData implements Serializable {
 
     public float getAvgScore() { return scoreManager.getAvgScore(); }
 
-    public LinkedList<Integer> getScoreHistory() { return scoreManager.getScoreHistory(); }
+    public int getScoreSum() { return scoreManager.getScoreSum(); }
 
-    public LinkedList<Integer> getTotalScoreHistory() { return scoreManager.getTotalScoreHistory(); }
+    public int getCount100() { return scoreManager.getCount100(); }
+
+    public int getCount140() { return scoreManager.getCount140(); }
+
+    public int getCount180() { return scoreManager.getCount180(); }
+
+    public ScoreHistory getScoreHistory() { return scoreManager.getScoreHistory(); }
+
+    public ScoreHistory getTotalScoreHistory() { return scoreManager.getTotalScoreHistory(); }
 
     public void resetScore() {
         scoreManager.reset();
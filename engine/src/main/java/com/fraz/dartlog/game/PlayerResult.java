@@ -0,0 +1,92 @@
+package com.fraz.dartlog.game;
+
+/**
+ * Immutable result of one player of a stored match: the score of every turn and the total
+ * score around it.
+ *
+ * Unlike {@link PlayerData}, a result holds no score manager and applies no rules. The stored
+ * scores are final, busts having been stored as a score of 0, so the totals are plain running
+ * sums of them.
+ */
+public final class PlayerResult {
+
+    private final String playerName;
+    private final int[] scores;
+    /** The total before every turn, followed by the final total. */
+    private final int[] totals;
+    private final boolean[] doubleOutAttempts;
+
+    private PlayerResult(String playerName, ScoreHistory scores, int startingTotal, int sign,
+                         ScoreHistory doubleOutAttempts) {
+        this.playerName = playerName;
+        this.scores = new int[scores.size()];
+        this.totals = new int[scores.size() + 1];
+        this.doubleOutAttempts = new boolean[scores.size()];
+        totals[0] = startingTotal;
+        for (int i = 0; i < scores.size(); i++) {
+            this.scores[i] = scores.get(i);
+            totals[i + 1] = totals[i] + sign * this.scores[i];
+            if (doubleOutAttempts != null)
+                this.doubleOutAttempts[i] = doubleOutAttempts.get(i) != 0;
+        }
+    }
+
+    /**
+     * @param x                 The 'X' in X01 of the match.
+     * @param scores            The stored score of every turn.
+     * @param doubleOutAttempts 1 for every turn that was a double out attempt, else 0.
+     * @return The result of a player of an x01 match, counting down from x * 100 + 1.
+     */
+    public static PlayerResult x01(String playerName, int x, ScoreHistory scores,
+                                   ScoreHistory doubleOutAttempts) {
+        return new PlayerResult(playerName, scores, x * 100 + 1, -1, doubleOutAttempts);
+    }
+
+    /**
+     * @param scores The stored score of every turn.
+     * @return The result of a player of a random match, counting up from 0.
+     */
+    public static PlayerResult random(String playerName, ScoreHistory scores) {
+        return new PlayerResult(playerName, scores, 0, 1, null);
+    }
+
+    public String getPlayerName() {
+        return playerName;
+    }
+
+    /**
+     * @return The number of turns the player played.
+     */
+    public int getTurns() {
+        return scores.length;
+    }
+
+    /**
+     * @return The score achieved in the turn.
+     */
+    public int getScore(int turn) {
+        return scores[turn];
+    }
+
+    /**
+     * @param turn The turn, or the number of turns for the final total.
+     * @return The total score before the turn.
+     */
+    public int getTotal(int turn) {
+        return totals[turn];
+    }
+
+    /**
+     * @return The total score after the last turn.
+     */
+    public int getScore() {
+        return totals[scores.length];
+    }
+
+    /**
+     * @return True if the turn was an x01 double out attempt.
+     */
+    public boolean isDoubleOutAttempt(int turn) {
+        return doubleOutAttempts[turn];
+    }
+}
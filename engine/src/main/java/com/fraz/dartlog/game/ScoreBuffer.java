@@ -0,0 +1,87 @@
+package com.fraz.dartlog.game;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.Arrays;
+
+/**
+ * Growable list of scores backed by an int array, giving constant time indexed access without
+ * boxing the scores.
+ */
+public class ScoreBuffer implements ScoreHistory, Serializable {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private transient int[] scores;
+    private transient int size;
+
+    public ScoreBuffer() {
+        scores = new int[INITIAL_CAPACITY];
+    }
+
+    public void add(int score) {
+        if (size == scores.length)
+            scores = Arrays.copyOf(scores, size * 2);
+        scores[size++] = score;
+    }
+
+    /**
+     * Remove the score of the last turn.
+     *
+     * @return The removed score.
+     * @throws IndexOutOfBoundsException If the buffer is empty.
+     */
+    public int removeLast() {
+        int last = getLast();
+        size--;
+        return last;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    @Override
+    public int get(int index) {
+        if (index < 0 || index >= size)
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        return scores[index];
+    }
+
+    @Override
+    public int getLast() {
+        return get(size - 1);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Only the used part of the array is written, not the spare capacity.
+     */
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        out.defaultWriteObject();
+        out.writeInt(size);
+        for (int i = 0; i < size; i++) {
+            out.writeInt(scores[i]);
+        }
+    }
+
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        size = in.readInt();
+        scores = new int[Math.max(INITIAL_CAPACITY, size)];
+        for (int i = 0; i < size; i++) {
+            scores[i] = in.readInt();
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.fraz.dartlog.game;
+
+/**
+ * Read-only view of the scores of a player, one score per turn in the order they were
+ * submitted.
+ */
+public interface ScoreHistory {
+
+    /**
+     * @param index The turn, starting at 0.
+     * @return The score of the given turn.
+     * @throws IndexOutOfBoundsException If the turn has not been played.
+     */
+    int get(int index);
+
+    /**
+     * @return The score of the last turn.
+     * @throws IndexOutOfBoundsException If no turn has been played.
+     */
+    int getLast();
+
+    /**
+     * @return The number of turns played.
+     */
+    int size();
+
+    boolean isEmpty();
+}
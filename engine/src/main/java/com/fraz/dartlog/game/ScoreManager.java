@@ -0,0 +1,128 @@
+package com.fraz.dartlog.game;
+
+import java.io.Serializable;
+
+public abstract class ScoreManager implements Serializable {
+
+    protected ScoreBuffer scoreHistory = new ScoreBuffer();
+    protected ScoreBuffer totalScoreHistory = new ScoreBuffer();
+    protected int score;
+
+    /** The highest score of the turns up to and including each turn. */
+    private ScoreBuffer maxScoreHistory = new ScoreBuffer();
+    private int scoreSum;
+    private int count100;
+    private int count140;
+    private int count180;
+
+    public ScoreManager() {}
+
+    public boolean submitScore(int achievedScore) {
+        scoreHistory.add(achievedScore);
+        totalScoreHistory.add(getScore());
+        maxScoreHistory.add(Math.max(getMaxScore(), achievedScore));
+        scoreSum += achievedScore;
+        if (achievedScore >= 100)
+            count100++;
+        if (achievedScore >= 140)
+            count140++;
+        if (achievedScore == 180)
+            count180++;
+        return true;
+    }
+
+    public abstract void undoScore();
+
+    /**
+     * Remove the score of the last turn from the score history and the aggregates. Subclasses
+     * must use this rather than modifying the score history directly.
+     *
+     * @return The removed score.
+     */
+    protected int removeLastScore() {
+        int achievedScore = scoreHistory.removeLast();
+        maxScoreHistory.removeLast();
+        scoreSum -= achievedScore;
+        if (achievedScore >= 100)
+            count100--;
+        if (achievedScore >= 140)
+            count140--;
+        if (achievedScore == 180)
+            count180--;
+        return achievedScore;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public int getMaxScore() {
+        if (!maxScoreHistory.isEmpty())
+            return maxScoreHistory.getLast();
+        else
+            return 0;
+    }
+
+    public float getAvgScore() {
+        if (!scoreHistory.isEmpty())
+            return (float) scoreSum / scoreHistory.size();
+        else
+            return 0;
+    }
+
+    /**
+     * @return The sum of the scores of all turns.
+     */
+    public int getScoreSum() {
+        return scoreSum;
+    }
+
+    /**
+     * @return The number of turns scoring 100 or more.
+     */
+    public int getCount100() {
+        return count100;
+    }
+
+    /**
+     * @return The number of turns scoring 140 or more.
+     */
+    public int getCount140() {
+        return count140;
+    }
+
+    /**
+     * @return The number of turns scoring 180.
+     */
+    public int getCount180() {
+        return count180;
+    }
+
+    /**
+     * @return The score achieved in every turn.
+     */
+    public ScoreHistory getScoreHistory() {
+        return scoreHistory;
+    }
+
+    /**
+     * @return The total score before every turn.
+     */
+    public ScoreHistory getTotalScoreHistory() { return totalScoreHistory; }
+
+    public void reset() {
+        scoreHistory.clear();
+        totalScoreHistory.clear();
+        maxScoreHistory.clear();
+        scoreSum = 0;
+        count100 = 0;
+        count140 = 0;
+        count180 = 0;
+    }
+
+    public void applyScores(ScoreHistory scoreHistory) {
+        for (int i = 0; i < scoreHistory.size(); i++) {
+            submitScore(scoreHistory.get(i));
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.fraz.dartlog.game;
+
+/**
+ * Immutable scoreboard of a stored match: the total score of every player before every turn
+ * and at the end of the match, with the texts to show already rendered.
+ *
+ * Turn 0 is the first turn, and the last turn of the scoreboard holds the final totals. A
+ * player that stopped playing before the end of the match has their final total on the turn
+ * after their last turn and no score on the turns after that.
+ */
+public final class ScoreMatrix {
+
+    /** Text of a turn that a player did not play. */
+    public static final String NO_SCORE = "-";
+
+    private final int numberOfPlayers;
+    private final int turns;
+    private final int winnerIdx;
+    private final String[] playerNames;
+    private final String[] turnTexts;
+
+    /** Scores of every turn, one player after the other for each turn. */
+    private final int[] scores;
+    private final String[] scoreTexts;
+
+    public ScoreMatrix(MatchRecord match) {
+        numberOfPlayers = match.getNumberOfPlayers();
+        playerNames = match.getPlayerNames();
+        winnerIdx = match.getWinnerIdx();
+        turns = match.getTurns() + 1;
+
+        turnTexts = new String[turns];
+        for (int turn = 0; turn < turns; turn++) {
+            turnTexts[turn] = String.valueOf(turn);
+        }
+
+        scores = new int[turns * numberOfPlayers];
+        scoreTexts = new String[turns * numberOfPlayers];
+        for (int playerIdx = 0; playerIdx < numberOfPlayers; playerIdx++) {
+            PlayerResult player = match.getPlayer(playerIdx);
+            for (int turn = 0; turn < turns; turn++) {
+                int cell = turn * numberOfPlayers + playerIdx;
+                if (turn <= player.getTurns()) {
+                    scores[cell] = player.getTotal(turn);
+                    scoreTexts[cell] = String.valueOf(scores[cell]);
+                } else {
+                    scoreTexts[cell] = NO_SCORE;
+                }
+            }
+        }
+    }
+
+    public int getNumberOfPlayers() {
+        return numberOfPlayers;
+    }
+
+    /**
+     * @return The number of turns on the scoreboard.
+     */
+    public int getTurns() {
+        return turns;
+    }
+
+    /**
+     * @return The index of the winner, or -1 if the match has no winner.
+     */
+    public int getWinnerIdx() {
+        return winnerIdx;
+    }
+
+    public String getPlayerName(int playerIdx) {
+        return playerNames[playerIdx];
+    }
+
+    /**
+     * @return The number of the turn as shown on the scoreboard.
+     */
+    public String getTurnText(int turn) {
+        return turnTexts[turn];
+    }
+
+    /**
+     * @return The total score of the player before the turn, or 0 if the player did not play
+     * the turn.
+     */
+    public int getScore(int turn, int playerIdx) {
+        return scores[turn * numberOfPlayers + playerIdx];
+    }
+
+    /**
+     * @return The total score of the player before the turn as shown on the scoreboard, or
+     * {@link #NO_SCORE} if the player did not play the turn.
+     */
+    public String getScoreText(int turn, int playerIdx) {
+        return scoreTexts[turn * numberOfPlayers + playerIdx];
+    }
+}
@@ -0,0 +1,105 @@
+package com.fraz.dartlog.game;
+
+/**
+ * Display texts of the scores of the players of a game, kept between binds of the views
+ * showing them.
+ *
+ * The score history text of a player is kept up to date from the events of the game: a
+ * submitted score is appended to the text and an undone score trimmed from it, so binding a
+ * row takes constant time. A history of another length than the text, as after a new leg, is
+ * written anew. A new string is only made when the text has changed, so asking again for an
+ * unchanged text does not allocate.
+ */
+public final class ScoreTexts {
+
+    private final Game game;
+    private final PlayerTexts[] playerTexts;
+
+    public ScoreTexts(Game game) {
+        this.game = game;
+        playerTexts = new PlayerTexts[game.getNumberOfPlayers()];
+        for (int i = 0; i < playerTexts.length; i++) {
+            playerTexts[i] = new PlayerTexts();
+        }
+    }
+
+    /**
+     * @return The current score of the player.
+     */
+    public String getScore(int playerIdx) {
+        PlayerTexts texts = playerTexts[playerIdx];
+        int score = game.getPlayer(playerIdx).getScore();
+        if (texts.scoreText == null || texts.score != score) {
+            texts.score = score;
+            texts.scoreText = String.valueOf(score);
+        }
+        return texts.scoreText;
+    }
+
+    /**
+     * @return The score of every turn of the player, separated by spaces.
+     */
+    public String getScoreHistory(int playerIdx) {
+        PlayerTexts texts = playerTexts[playerIdx];
+        ScoreHistory history = game.getPlayer(playerIdx).getScoreHistory();
+        if (texts.ends.size() != history.size())
+            rewrite(texts, history);
+        if (texts.historyText == null)
+            texts.historyText = texts.history.toString();
+        return texts.historyText;
+    }
+
+    /**
+     * Append the score the player has submitted to the history text. Must be called for
+     * every {@link GameListener#onScoreSubmitted(int, int)} event of the game.
+     */
+    public void onScoreSubmitted(int playerIdx) {
+        PlayerTexts texts = playerTexts[playerIdx];
+        ScoreHistory history = game.getPlayer(playerIdx).getScoreHistory();
+        if (texts.ends.size() != history.size() - 1)
+            return;
+
+        if (!texts.ends.isEmpty())
+            texts.history.append(' ');
+        texts.history.append(history.getLast());
+        texts.ends.add(texts.history.length());
+        texts.historyText = null;
+    }
+
+    /**
+     * Trim the score undone by the player from the history text. Must be called for every
+     * {@link GameListener#onUndo(int, int)} event of the game.
+     */
+    public void onUndo(int playerIdx) {
+        PlayerTexts texts = playerTexts[playerIdx];
+        ScoreHistory history = game.getPlayer(playerIdx).getScoreHistory();
+        if (texts.ends.size() != history.size() + 1)
+            return;
+
+        texts.ends.removeLast();
+        texts.history.setLength(texts.ends.isEmpty() ? 0 : texts.ends.getLast());
+        texts.historyText = null;
+    }
+
+    private static void rewrite(PlayerTexts texts, ScoreHistory history) {
+        texts.history.setLength(0);
+        texts.ends.clear();
+        for (int i = 0; i < history.size(); i++) {
+            if (i > 0)
+                texts.history.append(' ');
+            texts.history.append(history.get(i));
+            texts.ends.add(texts.history.length());
+        }
+        texts.historyText = null;
+    }
+
+    private static class PlayerTexts {
+        int score;
+        String scoreText;
+
+        /** The end of every score in the history text. */
+        final ScoreBuffer ends = new ScoreBuffer();
+        final StringBuilder history = new StringBuilder();
+        String historyText;
+    }
+}
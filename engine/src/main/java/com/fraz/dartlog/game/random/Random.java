@@ -7,6 +7,7 @@ import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.List;
 
 public class Random extends Game implements Serializable{
 
@@ -56,7 +57,7 @@ public class Random extends Game implements Serializable{
         nextPlayer();
         if (getTurn() == nrOfTurns + 1) {
             setWinner();
-            showWinnerToast();
+            notifyLegWon();
         }
     }
 
@@ -74,14 +75,24 @@ public class Random extends Game implements Serializable{
     }
 
 
-    public Random(RandomGameActivity context, ArrayList<? extends PlayerData> playerData, int nrOfTurns) {
-        super(context, playerData);
+    public Random(ArrayList<? extends PlayerData> playerData, int nrOfTurns) {
+        super(playerData);
         this.nrOfTurns = nrOfTurns;
         rand = new java.util.Random();
 
         addFields(nrOfTurns);
     }
 
+    /**
+     * Create a game with already drawn fields, one for every turn.
+     */
+    public Random(ArrayList<? extends PlayerData> playerData, List<Integer> fields) {
+        super(playerData);
+        this.nrOfTurns = fields.size();
+        this.fields.addAll(fields);
+        rand = new java.util.Random();
+    }
+
     public int getNextStartingPlayer() {
         return 0;
     }
@@ -101,6 +112,13 @@ public class Random extends Game implements Serializable{
         return field;
     }
 
+    /**
+     * @return The field of every turn of the leg.
+     */
+    public List<Integer> getFields() {
+        return Collections.unmodifiableList(fields);
+    }
+
     public int getNrOfTurns(){
         return nrOfTurns;
     }
@@ -1,7 +1,5 @@
 package com.fraz.dartlog.game.x01;
 
-import android.app.Activity;
-
 import com.fraz.dartlog.game.Game;
 import com.fraz.dartlog.game.PlayerData;
 
@@ -10,14 +8,14 @@ import java.util.ArrayList;
 
 public class X01 extends Game implements Serializable{
 
-    X01(Activity context, ArrayList<? extends X01PlayerData> playerData) {
-        super(context, playerData);
+    public X01(ArrayList<? extends X01PlayerData> playerData) {
+        super(playerData);
     }
 
     public boolean submitScore(int score) {
         if (!isGameOver()) {
             if (!super.submitScore(score)) {
-                showBustToast();
+                notifyBust(getPlayer(currentPlayerIdx));
             }
             updateGameState();
         }
@@ -32,19 +30,14 @@ public class X01 extends Game implements Serializable{
         PlayerData currentPlayer = getPlayer(currentPlayerIdx);
         if (currentPlayer.getScore() == 0) {
             setWinner(currentPlayer);
-            showWinnerToast();
+            notifyLegWon();
         }
         else {
             nextPlayer();
         }
     }
 
-    private void showBustToast() {
-        CharSequence text = "Bust!";
-        showToast(text);
-    }
-
-    void newLeg() {
+    public void newLeg() {
         newGame();
     }
 
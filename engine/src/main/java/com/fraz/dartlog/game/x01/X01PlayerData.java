@@ -1,43 +1,42 @@
 package com.fraz.dartlog.game.x01;
 
-import android.content.Context;
-
 import com.fraz.dartlog.CheckoutChart;
-import com.fraz.dartlog.R;
 import com.fraz.dartlog.game.PlayerData;
-
-import java.util.LinkedList;
+import com.fraz.dartlog.game.ScoreHistory;
 
 public class X01PlayerData extends PlayerData {
 
-    private CheckoutChart doubleCheckoutChart;
-    private CheckoutChart singleCheckoutChart;
     private X01ScoreManager scoreManager;
 
-    public X01PlayerData(Context context, String playerName, X01ScoreManager scoreManager) {
+    public X01PlayerData(String playerName, X01ScoreManager scoreManager) {
         super(playerName, scoreManager);
-        doubleCheckoutChart = new CheckoutChart(context, R.raw.double_checkout_chart);
-        singleCheckoutChart = new CheckoutChart(context, R.raw.single_checkout_chart);
         this.scoreManager = scoreManager;
     }
 
-    public LinkedList<Integer> getTotalScoreHistory() {
+    public ScoreHistory getTotalScoreHistory() {
         return scoreManager.getTotalScoreHistory();
     }
 
-    String getCheckoutText() {
+    /**
+     * @return 1 for every turn that was a double out attempt, 0 for the other turns.
+     */
+    public ScoreHistory getDoubleOutAttemptHistory() {
+        return scoreManager.getDoubleOutAttemptHistory();
+    }
+
+    public String getCheckoutText() {
         if (mustDoubleOut()) {
-            return doubleCheckoutChart.getCheckoutText(getScore());
+            return CheckoutChart.getDoubleOutChart().getCheckoutText(getScore());
         } else {
-            return singleCheckoutChart.getCheckoutText(getScore());
+            return CheckoutChart.getSingleOutChart().getCheckoutText(getScore());
         }
     }
 
-    X01ScoreManager.Checkout getCurrentCheckoutType() {
+    public X01ScoreManager.Checkout getCurrentCheckoutType() {
         return scoreManager.getCurrentCheckoutType();
     }
 
-    int getRemainingDoubleOutAttempts() {
+    public int getRemainingDoubleOutAttempts() {
         return scoreManager.getRemainingDoubleOutAttempts();
     }
 
@@ -47,11 +46,11 @@ public class X01PlayerData extends PlayerData {
                 checkoutType == X01ScoreManager.Checkout.DOUBLE_ATTEMPT;
     }
 
-    int getX() {
+    public int getX() {
         return scoreManager.getX();
     }
 
-    int getDoubleOutAttempts() {
+    public int getDoubleOutAttempts() {
         return scoreManager.getDoubleOutAttempts();
     }
 }
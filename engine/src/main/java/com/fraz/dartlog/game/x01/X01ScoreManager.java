@@ -1,45 +1,85 @@
 package com.fraz.dartlog.game.x01;
 
+import com.fraz.dartlog.game.ScoreBuffer;
+import com.fraz.dartlog.game.ScoreHistory;
 import com.fraz.dartlog.game.ScoreManager;
 
 public class X01ScoreManager extends ScoreManager {
 
+    /** Highest score a turn may start at to count as a double out attempt. */
+    private static final int DOUBLE_OUT_RANGE = 50;
+
     private int doubleOutAttempts = -1;
 
     /** The 'X' in X01 */
     private int x;
 
+    /** 1 for every turn that was a double out attempt, 0 for the other turns. */
+    private ScoreBuffer doubleOutAttemptHistory = new ScoreBuffer();
+    private int usedDoubleOutAttempts;
+
     public X01ScoreManager(int x) {
         this.x = x;
         score = getStartingScore();
     }
 
     public boolean submitScore(int score) {
+        return submitScore(score, getScore() <= DOUBLE_OUT_RANGE);
+    }
+
+    private boolean submitScore(int score, boolean doubleOutAttempt) {
         int newScore = getScore() - score;
-        if (hasBust(newScore)) {
+        boolean bust = hasBust(newScore);
+        if (bust) {
             super.submitScore(0);
-            return false;
         } else {
             super.submitScore(score);
             this.score = newScore;
-            return true;
+        }
+        doubleOutAttemptHistory.add(doubleOutAttempt ? 1 : 0);
+        if (doubleOutAttempt)
+            usedDoubleOutAttempts++;
+        return !bust;
+    }
+
+    /**
+     * Replay stored turns, using the stored double out attempts rather than working them out
+     * from the scores.
+     *
+     * @param scoreHistory      The score of every turn.
+     * @param doubleOutAttempts 1 for every turn that was a double out attempt, else 0.
+     */
+    public void applyScores(ScoreHistory scoreHistory, ScoreHistory doubleOutAttempts) {
+        for (int i = 0; i < scoreHistory.size(); i++) {
+            submitScore(scoreHistory.get(i), doubleOutAttempts.get(i) != 0);
         }
     }
 
     @Override
     public void undoScore() {
         if (!scoreHistory.isEmpty()) {
-            scoreHistory.removeLast();
+            removeLastScore();
             score = totalScoreHistory.removeLast();
+            if (doubleOutAttemptHistory.removeLast() != 0)
+                usedDoubleOutAttempts--;
         }
     }
 
     @Override
     public void reset() {
         super.reset();
+        doubleOutAttemptHistory.clear();
+        usedDoubleOutAttempts = 0;
         score = getStartingScore();
     }
 
+    /**
+     * @return 1 for every turn that was a double out attempt, 0 for the other turns.
+     */
+    public ScoreHistory getDoubleOutAttemptHistory() {
+        return doubleOutAttemptHistory;
+    }
+
     Checkout getCurrentCheckoutType() {
         if (doubleOutAttempts == -1)
             return Checkout.DOUBLE;
@@ -57,13 +97,7 @@ public class X01ScoreManager extends ScoreManager {
     int getRemainingDoubleOutAttempts() {
         if (doubleOutAttempts == -1)
             throw new UnsupportedOperationException("Attempts for double outs not used.");
-        int remainingDoubleOutAttempts = doubleOutAttempts;
-        for (Integer score : getTotalScoreHistory()) {
-            if (score <= 50) {
-                remainingDoubleOutAttempts -= 1;
-            }
-        }
-        return Math.max(0, remainingDoubleOutAttempts);
+        return Math.max(0, doubleOutAttempts - usedDoubleOutAttempts);
     }
 
     public void setDoubleOutAttempts(int doubleOutAttempts) {
@@ -87,7 +121,7 @@ public class X01ScoreManager extends ScoreManager {
         return doubleOutAttempts;
     }
 
-    enum Checkout {
+    public enum Checkout {
         SINGLE, DOUBLE, DOUBLE_ATTEMPT
     }
 }
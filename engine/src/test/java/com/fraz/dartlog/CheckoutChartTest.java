@@ -0,0 +1,36 @@
+package com.fraz.dartlog;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class CheckoutChartTest {
+
+    private static final String TEST_DATA = "120,T20 20 D20\n90,T18 D18";
+
+    private InputStream getTestInput() {
+        return new ByteArrayInputStream(TEST_DATA.getBytes());
+    }
+
+    @Test
+    public void testGetCheckoutText() throws Exception {
+        CheckoutChart checkoutChart = new CheckoutChart(getTestInput());
+        assertThat(checkoutChart.getCheckoutText(90), equalTo("T18 D18"));
+        assertThat(checkoutChart.getCheckoutText(120), equalTo("T20 20 D20"));
+        assertThat(checkoutChart.getCheckoutText(121), equalTo("No checkout"));
+        assertThat(checkoutChart.getCheckoutText(161), equalTo("No checkout"));
+    }
+
+    @Test
+    public void testSolverFillsMissingScores() throws Exception {
+        CheckoutChart checkoutChart =
+                new CheckoutChart(getTestInput(), CheckoutSolver.Rule.DOUBLE_OUT);
+        assertThat(checkoutChart.getCheckoutText(120), equalTo("T20 20 D20"));
+        assertThat(checkoutChart.getCheckoutText(170), equalTo("T20 T20 Bull"));
+        assertThat(checkoutChart.getCheckoutText(169), equalTo("No checkout"));
+    }
+}
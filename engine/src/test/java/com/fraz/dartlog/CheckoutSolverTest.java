@@ -0,0 +1,43 @@
+package com.fraz.dartlog;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class CheckoutSolverTest {
+
+    @Test
+    public void testDoubleOut() throws Exception {
+        CheckoutSolver.Rule rule = CheckoutSolver.Rule.DOUBLE_OUT;
+        assertThat(CheckoutSolver.getCheckout(rule, 3, 170), equalTo("T20 T20 Bull"));
+        assertThat(CheckoutSolver.getCheckout(rule, 3, 100), equalTo("T20 D20"));
+        assertThat(CheckoutSolver.getCheckout(rule, 3, 40), equalTo("D20"));
+        assertThat(CheckoutSolver.getCheckout(rule, 3, 169), nullValue());
+        assertThat(CheckoutSolver.getCheckout(rule, 3, 1), nullValue());
+    }
+
+    @Test
+    public void testDartsLeft() throws Exception {
+        CheckoutSolver.Rule rule = CheckoutSolver.Rule.DOUBLE_OUT;
+        assertThat(CheckoutSolver.getCheckout(rule, 1, 41), nullValue());
+        assertThat(CheckoutSolver.getCheckout(rule, 2, 110), equalTo("T20 Bull"));
+        assertThat(CheckoutSolver.getCheckout(rule, 2, 111), nullValue());
+    }
+
+    @Test
+    public void testSingleOut() throws Exception {
+        CheckoutSolver.Rule rule = CheckoutSolver.Rule.SINGLE_OUT;
+        assertThat(CheckoutSolver.getCheckout(rule, 3, 180), equalTo("T20 T20 T20"));
+        assertThat(CheckoutSolver.getCheckout(rule, 3, 1), equalTo("1"));
+        assertThat(CheckoutSolver.getCheckout(rule, 3, 179), nullValue());
+    }
+
+    @Test
+    public void testMasterOut() throws Exception {
+        CheckoutSolver.Rule rule = CheckoutSolver.Rule.MASTER_OUT;
+        assertThat(CheckoutSolver.getCheckout(rule, 1, 57), equalTo("T19"));
+        assertThat(CheckoutSolver.getCheckout(rule, 1, 19), nullValue());
+    }
+}
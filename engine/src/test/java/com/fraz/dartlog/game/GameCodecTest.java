@@ -0,0 +1,162 @@
+package com.fraz.dartlog.game;
+
+import com.fraz.dartlog.game.random.Random;
+import com.fraz.dartlog.game.x01.X01;
+import com.fraz.dartlog.game.x01.X01PlayerData;
+import com.fraz.dartlog.game.x01.X01ScoreManager;
+
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThan;
+
+public class GameCodecTest {
+
+    @Test
+    public void testX01RoundTrip() throws Exception {
+        X01 game = createX01();
+        game.newLeg();
+        for (int score : new int[] {180, 100, 60, 200, 81, 100, 40, 101}) {
+            game.submitScore(score);
+        }
+
+        X01 decoded = (X01) GameCodec.decodeGame(GameCodec.encode(game));
+        assertThat(decoded.getX(), equalTo(game.getX()));
+        assertThat(decoded.getDoubleOutAttempts(), equalTo(game.getDoubleOutAttempts()));
+        assertThat(decoded.getDate(), equalTo(game.getDate()));
+        assertThat(decoded.getStartingPlayerIdx(), equalTo(game.getStartingPlayerIdx()));
+        assertThat(decoded.getCurrentPlayerIdx(), equalTo(game.getCurrentPlayerIdx()));
+        assertThat(decoded.getPlayOrder(), equalTo(game.getPlayOrder()));
+        assertThat(decoded.getWinner().getPlayerName(), equalTo("Filip"));
+        for (int i = 0; i < game.getNumberOfPlayers(); i++) {
+            assertPlayer((X01PlayerData) decoded.getPlayer(i), (X01PlayerData) game.getPlayer(i));
+        }
+    }
+
+    @Test
+    public void testRandomRoundTrip() throws Exception {
+        ArrayList<PlayerData> players = new ArrayList<>();
+        players.add(new PlayerData("Filip", new AdditionScoreManager()));
+        players.add(new PlayerData("Razmus", new AdditionScoreManager()));
+        Random game = new Random(players, 5);
+        game.submitScore(3);
+        game.submitScore(9);
+        game.submitScore(1);
+
+        Random decoded = (Random) GameCodec.decodeGame(GameCodec.encode(game));
+        assertThat(decoded.getFields(), equalTo(game.getFields()));
+        assertThat(decoded.getCurrentPlayerIdx(), equalTo(1));
+        assertThat(decoded.getPlayer(0).getScore(), equalTo(4));
+        assertThat(decoded.getPlayer(1).getScore(), equalTo(9));
+        assertThat(decoded.getWinner(), nullValue());
+    }
+
+    @Test
+    public void testMatchRecordRoundTrip() throws Exception {
+        X01 game = createX01();
+        for (int score : new int[] {180, 100, 80, 140, 1, 1, 40}) {
+            game.submitScore(score);
+        }
+        MatchRecord match = createRecord(game, 17);
+
+        MatchRecord decoded = GameCodec.decodeMatchRecord(GameCodec.encode(match));
+        assertThat(decoded.getMatchId(), equalTo(17L));
+        assertThat(decoded.getGameType(), equalTo("x01"));
+        assertThat(decoded.getDate(), equalTo(match.getDate()));
+        assertThat(decoded.getX(), equalTo(3));
+        assertThat(decoded.getDoubleOutAttempts(), equalTo(3));
+        assertThat(decoded.getWinner(), sameInstance(decoded.getPlayer("Filip")));
+        for (int i = 0; i < match.getNumberOfPlayers(); i++) {
+            PlayerResult expected = match.getPlayer(i);
+            PlayerResult actual = decoded.getPlayer(i);
+            assertThat(actual.getPlayerName(), equalTo(expected.getPlayerName()));
+            assertThat(actual.getTurns(), equalTo(expected.getTurns()));
+            for (int turn = 0; turn < expected.getTurns(); turn++) {
+                assertThat(actual.getScore(turn), equalTo(expected.getScore(turn)));
+                assertThat(actual.getTotal(turn), equalTo(expected.getTotal(turn)));
+                assertThat(actual.isDoubleOutAttempt(turn),
+                        equalTo(expected.isDoubleOutAttempt(turn)));
+            }
+            assertThat(actual.getScore(), equalTo(expected.getScore()));
+        }
+    }
+
+    @Test
+    public void testSmallerThanSerializable() throws Exception {
+        X01 game = createX01();
+        for (int i = 0; i < 30; i++) {
+            game.submitScore(i % 2 == 0 ? 5 : 7);
+        }
+
+        assertThat(GameCodec.encode(game).length, lessThan(serialize(game).length / 10));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testXOutOfRange() throws Exception {
+        ArrayList<X01PlayerData> players = new ArrayList<>();
+        players.add(new X01PlayerData("Filip", new X01ScoreManager(Short.MAX_VALUE + 1)));
+        GameCodec.encode(new X01(players));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNumberOfPlayersOutOfRange() throws Exception {
+        ArrayList<X01PlayerData> players = new ArrayList<>();
+        for (int i = 0; i <= Byte.MAX_VALUE; i++) {
+            players.add(new X01PlayerData("Player " + i, new X01ScoreManager(3)));
+        }
+        GameCodec.encode(new X01(players));
+    }
+
+    private static void assertPlayer(X01PlayerData actual, X01PlayerData expected) {
+        assertThat(actual.getPlayerName(), equalTo(expected.getPlayerName()));
+        assertThat(actual.getScore(), equalTo(expected.getScore()));
+        assertThat(actual.getRemainingDoubleOutAttempts(),
+                equalTo(expected.getRemainingDoubleOutAttempts()));
+        assertHistory(actual.getScoreHistory(), expected.getScoreHistory());
+        assertHistory(actual.getTotalScoreHistory(), expected.getTotalScoreHistory());
+        assertHistory(actual.getDoubleOutAttemptHistory(), expected.getDoubleOutAttemptHistory());
+    }
+
+    private static void assertHistory(ScoreHistory actual, ScoreHistory expected) {
+        assertThat(actual.size(), equalTo(expected.size()));
+        for (int i = 0; i < expected.size(); i++) {
+            assertThat(actual.get(i), equalTo(expected.get(i)));
+        }
+    }
+
+    private static byte[] serialize(Object object) throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(object);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static X01 createX01() {
+        ArrayList<X01PlayerData> players = new ArrayList<>();
+        for (String name : new String[] {"Filip", "Razmus"}) {
+            X01ScoreManager scoreManager = new X01ScoreManager(3);
+            scoreManager.setDoubleOutAttempts(3);
+            players.add(new X01PlayerData(name, scoreManager));
+        }
+        return new X01(players);
+    }
+
+    private static MatchRecord createRecord(X01 game, long matchId) {
+        ArrayList<PlayerResult> players = new ArrayList<>();
+        for (int i = 0; i < game.getNumberOfPlayers(); i++) {
+            X01PlayerData player = (X01PlayerData) game.getPlayer(i);
+            players.add(PlayerResult.x01(player.getPlayerName(), 3, player.getScoreHistory(),
+                    player.getDoubleOutAttemptHistory()));
+        }
+        return new MatchRecord(matchId, "x01", game.getDate().getTimeInMillis(), players,
+                game.getPlayers().indexOf(game.getWinner()), 3, 3);
+    }
+}
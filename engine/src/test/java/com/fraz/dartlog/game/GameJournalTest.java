@@ -0,0 +1,168 @@
+package com.fraz.dartlog.game;
+
+import com.fraz.dartlog.game.random.Random;
+import com.fraz.dartlog.game.x01.X01;
+import com.fraz.dartlog.game.x01.X01PlayerData;
+import com.fraz.dartlog.game.x01.X01ScoreManager;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.util.ArrayList;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class GameJournalTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private File file;
+    private GameJournal journal;
+
+    @Before
+    public void setUp() throws Exception {
+        file = new File(folder.getRoot(), GameJournal.FILE_NAME);
+        journal = new GameJournal(file);
+    }
+
+    @Test
+    public void testReplayX01() throws Exception {
+        X01 game = createX01();
+        game.newLeg();
+        journal.start(game);
+        for (int score : new int[] {180, 100, 60, 121}) {
+            game.submitScore(score);
+            journal.submitScore(score);
+        }
+        game.undo();
+        journal.undo();
+        journal.close();
+
+        assertThat(GameJournal.readGameType(file), equalTo("x01"));
+        X01 replayed = (X01) GameJournal.read(file);
+        assertThat(replayed.getX(), equalTo(3));
+        assertThat(replayed.getDoubleOutAttempts(), equalTo(2));
+        assertThat(replayed.getStartingPlayerIdx(), equalTo(1));
+        assertThat(replayed.getCurrentPlayerIdx(), equalTo(game.getCurrentPlayerIdx()));
+        assertThat(replayed.getPlayOrder(), equalTo(game.getPlayOrder()));
+        for (int i = 0; i < game.getNumberOfPlayers(); i++) {
+            assertThat(replayed.getPlayer(i).getPlayerName(),
+                    equalTo(game.getPlayer(i).getPlayerName()));
+            assertThat(replayed.getPlayer(i).getScore(), equalTo(game.getPlayer(i).getScore()));
+        }
+    }
+
+    @Test
+    public void testStartKeepsPlayedTurns() throws Exception {
+        X01 game = createX01();
+        game.submitScore(180);
+        game.submitScore(200);
+        game.submitScore(121);
+        journal.start(game);
+        journal.close();
+
+        X01 replayed = (X01) GameJournal.read(file);
+        assertThat(replayed.getPlayer(0).getScore(), equalTo(0));
+        assertThat(replayed.getPlayer(1).getScore(), equalTo(101));
+        assertThat(replayed.getWinner().getPlayerName(), equalTo("Filip"));
+    }
+
+    @Test
+    public void testReplayRequest() throws Exception {
+        X01 game = createX01();
+        journal.start(game);
+        for (int score : new int[] {180, 200, 121}) {
+            game.submitScore(score);
+            journal.submitScore(score);
+        }
+        journal.request(GameJournal.Request.NEW_LEG);
+        journal.close();
+
+        GameJournal.Replay replay = GameJournal.replay(file);
+        assertThat(replay.getRequest(), equalTo(GameJournal.Request.NEW_LEG));
+        assertThat(replay.getGame().getWinner().getPlayerName(), equalTo("Filip"));
+        assertThat(replay.getGame().getDate().getTimeInMillis(),
+                equalTo(game.getDate().getTimeInMillis()));
+
+        journal.start(game);
+        journal.request(GameJournal.Request.COMPLETE_MATCH);
+        journal.close();
+        assertThat(GameJournal.replay(file).getRequest(),
+                equalTo(GameJournal.Request.COMPLETE_MATCH));
+    }
+
+    @Test
+    public void testTurnAfterRequestClearsIt() throws Exception {
+        X01 game = createX01();
+        journal.start(game);
+        journal.submitScore(60);
+        journal.request(GameJournal.Request.NEW_LEG);
+        journal.undo();
+        journal.close();
+
+        GameJournal.Replay replay = GameJournal.replay(file);
+        assertThat(replay.getRequest(), equalTo(GameJournal.Request.NONE));
+        assertThat(replay.getGame().getPlayOrder().size(), equalTo(0));
+    }
+
+    @Test
+    public void testReplayRandom() throws Exception {
+        ArrayList<PlayerData> players = new ArrayList<>();
+        players.add(new PlayerData("Filip", new AdditionScoreManager()));
+        players.add(new PlayerData("Razmus", new AdditionScoreManager()));
+        Random game = new Random(players, 3);
+        journal.start(game);
+        game.submitScore(4);
+        journal.submitScore(4);
+        journal.close();
+
+        assertThat(GameJournal.readGameType(file), equalTo("random"));
+        Game replayed = GameJournal.read(file);
+        assertThat(replayed, instanceOf(Random.class));
+        assertThat(((Random) replayed).getFields(), equalTo(game.getFields()));
+        assertThat(replayed.getPlayer(0).getScore(), equalTo(4));
+        assertThat(replayed.getCurrentPlayerIdx(), equalTo(1));
+    }
+
+    @Test
+    public void testTornRecordIgnored() throws Exception {
+        X01 game = createX01();
+        journal.start(game);
+        journal.submitScore(60);
+        journal.close();
+        try (FileOutputStream out = new FileOutputStream(file, true)) {
+            out.write(0);
+        }
+
+        Game replayed = GameJournal.read(file);
+        assertThat(replayed.getPlayer(0).getScore(), equalTo(241));
+        assertThat(replayed.getPlayOrder().size(), equalTo(1));
+    }
+
+    @Test
+    public void testDelete() throws Exception {
+        journal.start(createX01());
+        journal.delete();
+
+        assertThat(GameJournal.read(file), nullValue());
+        assertThat(GameJournal.readGameType(file), nullValue());
+    }
+
+    private X01 createX01() {
+        ArrayList<X01PlayerData> players = new ArrayList<>();
+        for (String name : new String[] {"Filip", "Razmus"}) {
+            X01ScoreManager scoreManager = new X01ScoreManager(3);
+            scoreManager.setDoubleOutAttempts(2);
+            players.add(new X01PlayerData(name, scoreManager));
+        }
+        return new X01(players);
+    }
+}
@@ -0,0 +1,71 @@
+package com.fraz.dartlog.game;
+
+import com.fraz.dartlog.game.x01.X01ScoreManager;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class MatchRecordTest {
+
+    @Test
+    public void testX01TotalsMatchScoreManager() throws Exception {
+        X01ScoreManager scoreManager = new X01ScoreManager(3);
+        scoreManager.setDoubleOutAttempts(3);
+        for (int score : new int[] {180, 60, 100, 40, 20, 1, 20}) {
+            scoreManager.submitScore(score);
+        }
+
+        PlayerResult player = PlayerResult.x01("Filip", 3, scoreManager.getScoreHistory(),
+                scoreManager.getDoubleOutAttemptHistory());
+        ScoreHistory totals = scoreManager.getTotalScoreHistory();
+        assertThat(player.getTurns(), equalTo(totals.size()));
+        for (int turn = 0; turn < totals.size(); turn++) {
+            assertThat(player.getTotal(turn), equalTo(totals.get(turn)));
+            assertThat(player.isDoubleOutAttempt(turn),
+                    equalTo(scoreManager.getDoubleOutAttemptHistory().get(turn) != 0));
+        }
+        assertThat(player.getScore(), equalTo(scoreManager.getScore()));
+    }
+
+    @Test
+    public void testRandomTotals() throws Exception {
+        ScoreBuffer scores = new ScoreBuffer();
+        scores.add(3);
+        scores.add(0);
+        scores.add(5);
+
+        PlayerResult player = PlayerResult.random("Razmus", scores);
+        assertThat(player.getTotal(0), equalTo(0));
+        assertThat(player.getTotal(2), equalTo(3));
+        assertThat(player.getScore(), equalTo(8));
+        assertThat(player.isDoubleOutAttempt(2), equalTo(false));
+    }
+
+    @Test
+    public void testWinnerAndTurns() throws Exception {
+        ScoreBuffer longer = new ScoreBuffer();
+        ScoreBuffer shorter = new ScoreBuffer();
+        for (int i = 0; i < 4; i++) {
+            longer.add(1);
+            if (i < 3)
+                shorter.add(2);
+        }
+        ArrayList<PlayerResult> players = new ArrayList<>();
+        players.add(PlayerResult.random("Filip", shorter));
+        players.add(PlayerResult.random("Razmus", longer));
+
+        MatchRecord won = new MatchRecord(1, "random", 0, players, 0, 0, 0);
+        assertThat(won.getWinner(), sameInstance(won.getPlayer("Filip")));
+        assertThat(won.getTurns(), equalTo(3));
+
+        MatchRecord unfinished = new MatchRecord(2, "random", 0, players, -1, 0, 0);
+        assertThat(unfinished.getWinner(), nullValue());
+        assertThat(unfinished.getTurns(), equalTo(4));
+    }
+}
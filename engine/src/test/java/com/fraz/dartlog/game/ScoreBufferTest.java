@@ -0,0 +1,67 @@
+package com.fraz.dartlog.game;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class ScoreBufferTest {
+
+    @Test
+    public void testAddBeyondInitialCapacity() throws Exception {
+        ScoreBuffer buffer = new ScoreBuffer();
+        for (int i = 0; i < 100; i++) {
+            buffer.add(i);
+        }
+        assertThat(buffer.size(), equalTo(100));
+        assertThat(buffer.get(0), equalTo(0));
+        assertThat(buffer.get(57), equalTo(57));
+        assertThat(buffer.getLast(), equalTo(99));
+    }
+
+    @Test
+    public void testRemoveLast() throws Exception {
+        ScoreBuffer buffer = new ScoreBuffer();
+        buffer.add(60);
+        buffer.add(180);
+        assertThat(buffer.removeLast(), equalTo(180));
+        assertThat(buffer.size(), equalTo(1));
+        assertThat(buffer.getLast(), equalTo(60));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testGetRemovedScore() throws Exception {
+        ScoreBuffer buffer = new ScoreBuffer();
+        buffer.add(60);
+        buffer.removeLast();
+        buffer.get(0);
+    }
+
+    @Test
+    public void testSerialization() throws Exception {
+        ScoreBuffer buffer = new ScoreBuffer();
+        buffer.add(26);
+        buffer.add(140);
+        buffer.add(45);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(buffer);
+        }
+        ScoreBuffer copy;
+        try (ObjectInputStream in = new ObjectInputStream(
+                new ByteArrayInputStream(bytes.toByteArray()))) {
+            copy = (ScoreBuffer) in.readObject();
+        }
+
+        assertThat(copy.size(), equalTo(3));
+        assertThat(copy.get(1), equalTo(140));
+        copy.add(60);
+        assertThat(copy.getLast(), equalTo(60));
+    }
+}
@@ -0,0 +1,54 @@
+package com.fraz.dartlog.game;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class ScoreManagerTest {
+
+    @Test
+    public void testAggregates() throws Exception {
+        ScoreManager scoreManager = new AdditionScoreManager();
+        scoreManager.submitScore(100);
+        scoreManager.submitScore(180);
+        scoreManager.submitScore(20);
+
+        assertThat(scoreManager.getMaxScore(), equalTo(180));
+        assertThat(scoreManager.getScoreSum(), equalTo(300));
+        assertThat(scoreManager.getAvgScore(), equalTo(100f));
+        assertThat(scoreManager.getCount100(), equalTo(2));
+        assertThat(scoreManager.getCount140(), equalTo(1));
+        assertThat(scoreManager.getCount180(), equalTo(1));
+    }
+
+    @Test
+    public void testUndoRollsBackAggregates() throws Exception {
+        ScoreManager scoreManager = new AdditionScoreManager();
+        scoreManager.submitScore(140);
+        scoreManager.submitScore(180);
+        scoreManager.undoScore();
+
+        assertThat(scoreManager.getMaxScore(), equalTo(140));
+        assertThat(scoreManager.getScoreSum(), equalTo(140));
+        assertThat(scoreManager.getCount140(), equalTo(1));
+        assertThat(scoreManager.getCount180(), equalTo(0));
+
+        scoreManager.undoScore();
+        assertThat(scoreManager.getMaxScore(), equalTo(0));
+        assertThat(scoreManager.getAvgScore(), equalTo(0f));
+        assertThat(scoreManager.getCount100(), equalTo(0));
+    }
+
+    @Test
+    public void testResetClearsAggregates() throws Exception {
+        ScoreManager scoreManager = new AdditionScoreManager();
+        scoreManager.submitScore(180);
+        scoreManager.reset();
+        scoreManager.submitScore(45);
+
+        assertThat(scoreManager.getMaxScore(), equalTo(45));
+        assertThat(scoreManager.getScoreSum(), equalTo(45));
+        assertThat(scoreManager.getCount180(), equalTo(0));
+    }
+}
@@ -0,0 +1,53 @@
+package com.fraz.dartlog.game;
+
+import com.fraz.dartlog.game.x01.X01;
+import com.fraz.dartlog.game.x01.X01PlayerData;
+import com.fraz.dartlog.game.x01.X01ScoreManager;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class ScoreMatrixTest {
+
+    @Test
+    public void testScores() throws Exception {
+        ArrayList<X01PlayerData> players = new ArrayList<>();
+        players.add(new X01PlayerData("Filip", new X01ScoreManager(3)));
+        players.add(new X01PlayerData("Razmus", new X01ScoreManager(3)));
+        X01 game = new X01(players);
+        for (int score : new int[] {180, 100, 60, 60, 61}) {
+            game.submitScore(score);
+        }
+        ArrayList<PlayerResult> results = new ArrayList<>();
+        for (X01PlayerData player : players) {
+            results.add(PlayerResult.x01(player.getPlayerName(), 3, player.getScoreHistory(),
+                    player.getDoubleOutAttemptHistory()));
+        }
+        MatchRecord match = new MatchRecord(1, "x01", 0, results, 0, 3, -1);
+
+        ScoreMatrix scores = match.getScoreMatrix();
+        assertThat(scores.getNumberOfPlayers(), equalTo(2));
+        assertThat(scores.getWinnerIdx(), equalTo(0));
+        assertThat(scores.getPlayerName(1), equalTo("Razmus"));
+        assertThat(scores.getTurns(), equalTo(4));
+
+        for (int i = 0; i < 2; i++) {
+            ScoreHistory totals = players.get(i).getTotalScoreHistory();
+            for (int turn = 0; turn < totals.size(); turn++) {
+                assertThat(scores.getScore(turn, i), equalTo(totals.get(turn)));
+                assertThat(scores.getScoreText(turn, i),
+                        equalTo(String.valueOf(totals.get(turn))));
+            }
+        }
+        assertThat(scores.getScoreText(3, 0), equalTo("0"));
+        assertThat(scores.getTurnText(3), equalTo("3"));
+        assertThat(scores.getScoreText(2, 1), equalTo("141"));
+        assertThat(scores.getScoreText(3, 1), equalTo(ScoreMatrix.NO_SCORE));
+        assertThat(match.getScoreMatrix(), sameInstance(scores));
+    }
+}
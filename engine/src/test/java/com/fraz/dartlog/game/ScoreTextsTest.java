@@ -0,0 +1,129 @@
+package com.fraz.dartlog.game;
+
+import com.fraz.dartlog.game.x01.X01;
+import com.fraz.dartlog.game.x01.X01PlayerData;
+import com.fraz.dartlog.game.x01.X01ScoreManager;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThan;
+
+public class ScoreTextsTest {
+
+    private X01 game;
+    private ScoreTexts texts;
+
+    @Before
+    public void setUp() throws Exception {
+        ArrayList<X01PlayerData> players = new ArrayList<>();
+        players.add(new X01PlayerData("Filip", new X01ScoreManager(5)));
+        players.add(new X01PlayerData("Razmus", new X01ScoreManager(5)));
+        game = new X01(players);
+        texts = new ScoreTexts(game);
+        game.addListener(new GameListenerAdapter() {
+            @Override
+            public void onScoreSubmitted(int playerIdx, int score) {
+                texts.onScoreSubmitted(playerIdx);
+            }
+
+            @Override
+            public void onUndo(int playerIdx, int previousPlayerIdx) {
+                texts.onUndo(playerIdx);
+            }
+        });
+    }
+
+    @Test
+    public void testAppendAndTrim() throws Exception {
+        assertThat(texts.getScoreHistory(0), equalTo(""));
+        game.submitScore(60);
+        game.submitScore(100);
+        game.submitScore(140);
+        assertThat(texts.getScoreHistory(0), equalTo("60 140"));
+        assertThat(texts.getScore(0), equalTo("301"));
+
+        game.undo();
+        assertThat(texts.getScoreHistory(0), equalTo("60"));
+        game.submitScore(7);
+        assertThat(texts.getScoreHistory(0), equalTo("60 7"));
+        assertThat(texts.getScore(0), equalTo("434"));
+
+        game.newLeg();
+        assertThat(texts.getScoreHistory(0), equalTo(""));
+        assertThat(texts.getScoreHistory(1), equalTo(""));
+    }
+
+    @Test
+    public void testResubmitAfterUndo() throws Exception {
+        for (int score : new int[] {60, 1, 45}) {
+            game.submitScore(score);
+        }
+        assertThat(texts.getScoreHistory(0), equalTo("60 45"));
+
+        game.undo();
+        game.undo();
+        game.undo();
+        for (int score : new int[] {20, 1, 45}) {
+            game.submitScore(score);
+        }
+        assertThat(texts.getScoreHistory(0), equalTo("20 45"));
+        assertThat(texts.getScoreHistory(1), equalTo("1"));
+    }
+
+    @Test
+    public void testResumedGame() throws Exception {
+        game.submitScore(60);
+        game.submitScore(100);
+        game.submitScore(140);
+        ScoreTexts resumed = new ScoreTexts(game);
+
+        assertThat(resumed.getScoreHistory(0), equalTo("60 140"));
+        assertThat(resumed.getScoreHistory(1), equalTo("100"));
+    }
+
+    @Test
+    public void testUnchangedTextIsKept() throws Exception {
+        game.submitScore(60);
+        String history = texts.getScoreHistory(0);
+        String score = texts.getScore(0);
+        game.submitScore(100);
+
+        assertThat(texts.getScoreHistory(0), sameInstance(history));
+        assertThat(texts.getScore(0), sameInstance(score));
+    }
+
+    @Test
+    public void testUnchangedTextsDoNotAllocate() throws Exception {
+        for (int i = 0; i < 40; i++) {
+            game.submitScore(i % 2 == 0 ? 5 : 7);
+        }
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long thread = Thread.currentThread().getId();
+
+        // Warm up, so that the measured binds run the steady state path.
+        bindAll(1000);
+        long before = threads.getThreadAllocatedBytes(thread);
+        bindAll(10000);
+        long allocated = threads.getThreadAllocatedBytes(thread) - before;
+
+        // Allow for the allocation made by the measurement itself.
+        assertThat(allocated, lessThan(1024L));
+    }
+
+    private void bindAll(int times) {
+        for (int i = 0; i < times; i++) {
+            for (int player = 0; player < game.getNumberOfPlayers(); player++) {
+                texts.getScore(player);
+                texts.getScoreHistory(player);
+            }
+        }
+    }
+}
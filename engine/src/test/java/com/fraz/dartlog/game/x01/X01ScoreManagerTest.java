@@ -0,0 +1,103 @@
+package com.fraz.dartlog.game.x01;
+
+import com.fraz.dartlog.game.ScoreHistory;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class X01ScoreManagerTest {
+
+    private X01ScoreManager scoreManager;
+
+    @Before
+    public void setUp() throws Exception {
+        scoreManager = new X01ScoreManager(1);
+        scoreManager.setDoubleOutAttempts(2);
+    }
+
+    @Test
+    public void testSubmit() throws Exception {
+        submit(60, 20);
+
+        assertThat(scoreManager.getScore(), equalTo(21));
+        assertThat(scoreManager.getRemainingDoubleOutAttempts(), equalTo(1));
+        assertThat(scoreManager.getCurrentCheckoutType(),
+                equalTo(X01ScoreManager.Checkout.DOUBLE_ATTEMPT));
+    }
+
+    @Test
+    public void testBust() throws Exception {
+        submit(60, 30, 30);
+
+        assertThat(scoreManager.getScore(), equalTo(11));
+        assertThat(scoreManager.getRemainingDoubleOutAttempts(), equalTo(0));
+        assertThat(scoreManager.getCurrentCheckoutType(),
+                equalTo(X01ScoreManager.Checkout.SINGLE));
+    }
+
+    @Test
+    public void testUndoAcrossDoubleOutRange() throws Exception {
+        submit(51, 10, 10);
+        assertThat(scoreManager.getRemainingDoubleOutAttempts(), equalTo(0));
+
+        undo(2);
+        assertThat(scoreManager.getScore(), equalTo(50));
+        assertThat(scoreManager.getRemainingDoubleOutAttempts(), equalTo(2));
+
+        undo(1);
+        submit(50, 1, 30);
+        assertThat(scoreManager.getScore(), equalTo(20));
+        assertThat(scoreManager.getRemainingDoubleOutAttempts(), equalTo(1));
+
+        undo(3);
+        assertThat(scoreManager.getDoubleOutAttemptHistory().size(), equalTo(0));
+        assertThat(scoreManager.getRemainingDoubleOutAttempts(), equalTo(2));
+    }
+
+    @Test
+    public void testReset() throws Exception {
+        submit(60, 20, 20);
+        scoreManager.reset();
+        assertMatchesRecompute();
+        assertThat(scoreManager.getRemainingDoubleOutAttempts(), equalTo(2));
+
+        submit(91, 5);
+        assertThat(scoreManager.getRemainingDoubleOutAttempts(), equalTo(1));
+    }
+
+    private void submit(int... scores) {
+        for (int score : scores) {
+            scoreManager.submitScore(score);
+            assertMatchesRecompute();
+        }
+    }
+
+    private void undo(int times) {
+        for (int i = 0; i < times; i++) {
+            scoreManager.undoScore();
+            assertMatchesRecompute();
+        }
+    }
+
+    /**
+     * Check the double out attempts against working them out from the total score before
+     * every turn, as they were before they were tracked per turn.
+     */
+    private void assertMatchesRecompute() {
+        ScoreHistory totals = scoreManager.getTotalScoreHistory();
+        ScoreHistory attempts = scoreManager.getDoubleOutAttemptHistory();
+        assertThat(attempts.size(), equalTo(totals.size()));
+
+        int remaining = scoreManager.getDoubleOutAttempts();
+        for (int i = 0; i < totals.size(); i++) {
+            boolean attempt = totals.get(i) <= 50;
+            assertThat(attempts.get(i), equalTo(attempt ? 1 : 0));
+            if (attempt)
+                remaining--;
+        }
+        assertThat(scoreManager.getRemainingDoubleOutAttempts(), equalTo(Math.max(0, remaining)));
+    }
+}
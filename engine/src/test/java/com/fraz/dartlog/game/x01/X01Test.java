@@ -0,0 +1,108 @@
+package com.fraz.dartlog.game.x01;
+
+import com.fraz.dartlog.game.GameListenerAdapter;
+import com.fraz.dartlog.game.PlayerData;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class X01Test {
+
+    private X01 game;
+    private final ArrayList<String> events = new ArrayList<>();
+
+    @Before
+    public void setUp() throws Exception {
+        ArrayList<X01PlayerData> players = new ArrayList<>();
+        players.add(new X01PlayerData("Filip", new X01ScoreManager(3)));
+        players.add(new X01PlayerData("Razmus", new X01ScoreManager(3)));
+        game = new X01(players);
+        game.addListener(new GameListenerAdapter() {
+            @Override
+            public void onBust(PlayerData player) {
+                events.add("bust " + player.getPlayerName());
+            }
+
+            @Override
+            public void onLegWon(PlayerData winner) {
+                events.add("won " + winner.getPlayerName());
+            }
+        });
+    }
+
+    @Test
+    public void testBust() throws Exception {
+        game.submitScore(180);
+        game.submitScore(60);
+        game.submitScore(180);
+
+        assertThat(game.getPlayer(0).getScore(), equalTo(121));
+        assertThat(game.getCurrentPlayerIdx(), equalTo(1));
+        assertThat(events.size(), equalTo(1));
+        assertThat(events.get(0), equalTo("bust Filip"));
+    }
+
+    @Test
+    public void testLegWon() throws Exception {
+        game.submitScore(180);
+        game.submitScore(60);
+        game.submitScore(121);
+
+        assertThat(game.getWinner(), sameInstance(game.getPlayer(0)));
+        assertThat(events.get(0), equalTo("won Filip"));
+    }
+
+    @Test
+    public void testTurnEvents() throws Exception {
+        final ArrayList<String> turnEvents = new ArrayList<>();
+        game.addListener(new GameListenerAdapter() {
+            @Override
+            public void onScoreSubmitted(int playerIdx, int score) {
+                turnEvents.add("score " + playerIdx + " " + score);
+            }
+
+            @Override
+            public void onBust(PlayerData player) {
+                turnEvents.add("bust " + player.getPlayerName());
+            }
+
+            @Override
+            public void onTurnAdvanced(int previousPlayerIdx, int currentPlayerIdx) {
+                turnEvents.add("turn " + previousPlayerIdx + " " + currentPlayerIdx);
+            }
+
+            @Override
+            public void onUndo(int playerIdx, int previousPlayerIdx) {
+                turnEvents.add("undo " + playerIdx + " " + previousPlayerIdx);
+            }
+        });
+        game.submitScore(60);
+        game.submitScore(400);
+        game.undo();
+
+        assertThat(turnEvents, equalTo(Arrays.asList(
+                "score 0 60", "turn 0 1",
+                "score 1 400", "bust Razmus", "turn 1 0",
+                "undo 1 0")));
+    }
+
+    @Test
+    public void testUndoWin() throws Exception {
+        game.submitScore(180);
+        game.submitScore(60);
+        game.submitScore(121);
+        game.undo();
+
+        assertThat(game.getWinner(), nullValue());
+        assertThat(game.getPlayer(0).getScore(), equalTo(121));
+        assertThat(game.getCurrentPlayerIdx(), equalTo(0));
+    }
+}